@@ -0,0 +1,4 @@
+@echo off
+echo Running Reddit Selector Profile...
+mvn test -Dtest=RedditSelectorProfileTest -Dbrowser=chrome -Dheadless=true
+pause
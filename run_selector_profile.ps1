@@ -0,0 +1,3 @@
+Write-Host "Running Reddit Selector Profile..." -ForegroundColor Green
+mvn test -Dtest=RedditSelectorProfileTest -Dbrowser=chrome -Dheadless=true
+Read-Host "Press Enter to continue"
@@ -0,0 +1,45 @@
+package com.reddit.automation.framework.base;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Asynchronous view of a page object: every call is queued on the session's executor and returns
+ * a future right away, so independent reads can be issued together and many sessions can be
+ * driven from one thread. Calls on the same session still run one at a time, in call order.
+ */
+public abstract class AsyncPage<P extends BasePage> {
+
+    protected final P page;
+    private final SessionExecutor executor;
+
+    protected AsyncPage(P page) {
+        this.page = page;
+        this.executor = SessionExecutor.of(page.driver);
+    }
+
+    /**
+     * Queue any query on the page object
+     */
+    public <T> CompletableFuture<T> call(String name, Function<P, T> query) {
+        return executor.submit(name, () -> query.apply(page));
+    }
+
+    /**
+     * Queue any action on the page object
+     */
+    public CompletableFuture<Void> run(String name, Consumer<P> action) {
+        return executor.submit(name, () -> {
+            action.accept(page);
+            return null;
+        });
+    }
+
+    /**
+     * Get the wrapped blocking page object
+     */
+    public P getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,156 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Memoizes Background steps per browser session. After a Background step the session is
+ * checkpointed (URL, cookies, storage and its history entry); a later scenario on the same
+ * session jumps back to that history entry, served from the back/forward cache when the page
+ * allows it, and resets cookies and storage instead of launching a browser and loading again.
+ * Consecutive read-only scenarios skip even that and share the page as loaded.
+ */
+public final class BackgroundCheckpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundCheckpoint.class);
+    private static final Map<WebDriver, Map<String, Checkpoint>> CHECKPOINTS = new WeakHashMap<>();
+    private static final String ENTRY_KEY_SCRIPT =
+            "return window.navigation && navigation.currentEntry ? navigation.currentEntry.key : null;";
+    private static final String TRAVERSE_SCRIPT =
+            "var key = arguments[0];" +
+            "if (!window.navigation || !navigation.entries().some(function (e) { return e.key === key; })) { return false; }" +
+            "if (navigation.currentEntry.key === key) { return 'current'; }" +
+            "navigation.traverseTo(key); return true;";
+    private static final String READY_SCRIPT =
+            "return document.readyState === 'complete' && !!window.navigation && navigation.currentEntry.key === arguments[0];";
+
+    private BackgroundCheckpoint() {
+    }
+
+    /**
+     * Restore checkpoint key into the current thread's session.
+     * Returns false if checkpointing is disabled or no session holds the checkpoint yet.
+     */
+    public static boolean restore(String key) {
+        WebDriver driver = DriverManager.getDriver();
+        if (!ConfigReader.isBackgroundCheckpointEnabled() || driver == null) {
+            return false;
+        }
+        Checkpoint checkpoint;
+        synchronized (CHECKPOINTS) {
+            checkpoint = CHECKPOINTS.getOrDefault(driver, new HashMap<>()).get(key);
+        }
+        if (checkpoint == null) {
+            return false;
+        }
+        if (ReadOnlySnapshot.isPristine(driver, key) && checkpoint.state.url.equals(driver.getCurrentUrl())) {
+            logger.info("Sharing page of checkpoint {} with previous read-only scenario", key);
+            return true;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (sameOrigin(driver.getCurrentUrl(), checkpoint.state.url)) {
+                // Reset cookies and storage first, so the page loads as the checkpoint saw it and not
+                // with what the previous scenario left behind, e.g. a logged-in user
+                checkpoint.state.restoreInPlace(driver);
+                if (!traverseTo(driver, checkpoint)) {
+                    driver.get(checkpoint.state.url);
+                }
+            } else {
+                // Cookies can only be set on a page of their origin: load it, reset, then load it again
+                driver.get(checkpoint.state.url);
+                checkpoint.state.restoreInPlace(driver);
+                driver.navigate().refresh();
+            }
+            ReadOnlySnapshot.loaded(driver, key);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to restore checkpoint {}, running Background again", key, e);
+            return false;
+        }
+        logger.info("Restored checkpoint {} ({}) in {}ms", key, checkpoint.state.url, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    private static boolean traverseTo(WebDriver driver, Checkpoint checkpoint) {
+        if (checkpoint.entryKey == null) {
+            return false;
+        }
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object traversal = js.executeScript(TRAVERSE_SCRIPT, checkpoint.entryKey);
+        if ("current".equals(traversal)) {
+            // Still on the checkpoint entry, reload it with the reset state
+            driver.navigate().refresh();
+            return true;
+        }
+        if (!Boolean.TRUE.equals(traversal)) {
+            return false;
+        }
+        long deadline = System.currentTimeMillis()
+                + Deadline.cap(Duration.ofSeconds(ConfigReader.getPageLoadTimeout())).toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                if (Boolean.TRUE.equals(js.executeScript(READY_SCRIPT, checkpoint.entryKey))) {
+                    return true;
+                }
+            } catch (WebDriverException e) {
+                // Document is being swapped, poll again
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sameOrigin(String url, String other) {
+        try {
+            URI a = URI.create(url);
+            URI b = URI.create(other);
+            return a.getScheme() != null && a.getScheme().equals(b.getScheme())
+                    && a.getAuthority() != null && a.getAuthority().equals(b.getAuthority());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checkpoint the current thread's session under key, after its Background step completed
+     */
+    public static void save(String key) {
+        WebDriver driver = DriverManager.getDriver();
+        if (!ConfigReader.isBackgroundCheckpointEnabled() || driver == null) {
+            return;
+        }
+        Checkpoint checkpoint = new Checkpoint(SessionState.capture(driver),
+                (String) ((JavascriptExecutor) driver).executeScript(ENTRY_KEY_SCRIPT));
+        synchronized (CHECKPOINTS) {
+            CHECKPOINTS.computeIfAbsent(driver, d -> new HashMap<>()).put(key, checkpoint);
+        }
+        ReadOnlySnapshot.loaded(driver, key);
+        logger.info("Checkpointed {} at {}", key, checkpoint.state.url);
+    }
+
+    private static final class Checkpoint {
+        private final SessionState state;
+        private final String entryKey;
+
+        private Checkpoint(SessionState state, String entryKey) {
+            this.state = state;
+            this.entryKey = entryKey;
+        }
+    }
+}
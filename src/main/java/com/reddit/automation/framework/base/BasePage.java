@@ -1,8 +1,13 @@
 package com.reddit.automation.framework.base;
 
+import com.reddit.automation.framework.utils.ConfigReader;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -10,7 +15,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Base Page class containing common functionality for all page objects
@@ -18,37 +29,141 @@ import java.util.List;
 public abstract class BasePage {
     
     protected WebDriver driver;
-    protected WebDriverWait wait;
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
-    protected static final int DEFAULT_TIMEOUT = 10;
     
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+    }
+    
+    /**
+     * Get configured wait timeout, capped to the remaining time budget
+     */
+    protected Duration timeout() {
+        return Deadline.cap(Duration.ofSeconds(ConfigReader.getTimeout()));
+    }
+    
+    /**
+     * Get configured wait timeout for checks that never throw: capped to the remaining time budget,
+     * zero once the budget is used up so the check answers from the current page state
+     */
+    protected Duration probeTimeout() {
+        return Deadline.capOrZero(Duration.ofSeconds(ConfigReader.getTimeout()));
+    }
+    
+    /**
+     * Create a wait bounded by the configured timeout and the remaining time budget
+     */
+    protected WebDriverWait boundedWait() {
+        return new WebDriverWait(driver, timeout());
     }
     
     /**
      * Wait for element to be visible
      */
     protected WebElement waitForElementToBeVisible(By locator) {
+        LocatorRegistry.checkValid(locator);
         logger.info("Waiting for element to be visible: {}", locator);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return findWithLearning(locator, true, () -> boundedWait().until(ExpectedConditions.visibilityOfElementLocated(locator)));
     }
     
     /**
      * Wait for element to be clickable
      */
     protected WebElement waitForElementToBeClickable(By locator) {
+        LocatorRegistry.checkValid(locator);
         logger.info("Waiting for element to be clickable: {}", locator);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return boundedWait().until(ExpectedConditions.elementToBeClickable(locator));
     }
     
     /**
      * Wait for element to be present
      */
     protected WebElement waitForElementToBePresent(By locator) {
+        LocatorRegistry.checkValid(locator);
         logger.info("Waiting for element to be present: {}", locator);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return findWithLearning(locator, false, () -> boundedWait().until(ExpectedConditions.presenceOfElementLocated(locator)));
+    }
+    
+    /**
+     * Find element of a selector union by trying the learned branch first.
+     * Falls back to waiting on the full union and learns which branch matched.
+     * A single-branch locator has nothing to learn and only gets the full wait.
+     */
+    private WebElement findWithLearning(By locator, boolean visibleOnly, Supplier<WebElement> fullWait) {
+        List<String> branches = LocatorRegistry.cssBranches(locator);
+        if (branches.size() < 2 || !ConfigReader.isLocatorLearningEnabled()) {
+            return fullWait.get();
+        }
+        String key = LocatorStats.key(LocatorRegistry.nameOf(locator), getBrowserName());
+        String learned = LocatorStats.getLearned(key);
+        long start = System.nanoTime();
+        if (learned != null) {
+            WebElement element = (WebElement) executeHelper("queryBranch", learned, visibleOnly);
+            if (element != null) {
+                LocatorStats.recordHit(key, System.nanoTime() - start);
+                logger.debug("Learned selector hit for {}: {}", key, learned);
+                return element;
+            }
+        }
+        WebElement element;
+        try {
+            element = fullWait.get();
+        } catch (TimeoutException e) {
+            if (learned != null) {
+                LocatorStats.recordMiss(key);
+            }
+            throw e;
+        }
+        int index = ((Number) executeHelper("matchingBranch", element, branches)).intValue();
+        // An element that matches the learned branch was only not rendered yet: neither a miss nor a fallback
+        if (index >= 0 && !branches.get(index).equals(learned)) {
+            if (learned != null) {
+                LocatorStats.recordMiss(key);
+            }
+            LocatorStats.recordFallback(key, branches.get(index), System.nanoTime() - start);
+        }
+        return element;
+    }
+    
+    /**
+     * Get browser name of the session
+     */
+    protected String getBrowserName() {
+        if (driver instanceof HasCapabilities) {
+            return ((HasCapabilities) driver).getCapabilities().getBrowserName();
+        }
+        return "unknown";
+    }
+    
+    /**
+     * Wait for whichever alternative of a FirstOf locator becomes visible first
+     */
+    protected WebElement waitForFirstOf(FirstOf locator) {
+        return waitForFirstOf(locator, true);
+    }
+    
+    /**
+     * Wait for whichever alternative of a FirstOf locator matches first, all evaluated in one browser call
+     */
+    protected WebElement waitForFirstOf(FirstOf locator, boolean visibleOnly) {
+        logger.info("Waiting for first of: {}", locator);
+        Duration timeout = timeout();
+        List<?> result = (List<?>) executeHelper("firstOf", locator.toScriptArgument(),
+                timeout.toMillis(), visibleOnly);
+        int offset = 0;
+        if (result == null && !locator.lastResortToScriptArgument().isEmpty()) {
+            // The specific alternatives missed for the whole wait, so a broad match is the best left
+            offset = locator.toScriptArgument().size();
+            result = (List<?>) executeHelper("firstOf", locator.lastResortToScriptArgument(), 0, visibleOnly);
+        }
+        if (result == null) {
+            throw new TimeoutException("No alternative of '" + locator.getName() + "' matched within "
+                    + timeout.toMillis() + "ms: " + locator);
+        }
+        int index = offset + ((Number) result.get(0)).intValue();
+        locator.recordWin(index);
+        logger.info("'{}' resolved by {}", locator.getName(), locator.describe(index));
+        return (WebElement) result.get(1);
     }
     
     /**
@@ -70,6 +185,80 @@ public abstract class BasePage {
         element.sendKeys(text);
     }
     
+    /**
+     * Type into an already located element, setting the value by script if it is not interactable
+     */
+    protected void typeIntoElement(WebElement element, String text) {
+        try {
+            element.clear();
+            element.sendKeys(text);
+        } catch (ElementNotInteractableException e) {
+            logger.warn("Element not interactable, setting value using JavaScript");
+            executeHelper("setValue", element, text);
+        }
+    }
+    
+    /**
+     * Fill a form: consecutive script fields are set together in one browser call,
+     * typed fields get real keystrokes, all in the order they were added
+     */
+    protected void fillForm(FormFill form) {
+        List<FormFill.Field> batch = new ArrayList<>();
+        for (FormFill.Field field : form.getFields()) {
+            if (!field.typed) {
+                batch.add(field);
+                continue;
+            }
+            fillFields(batch);
+            batch.clear();
+            logger.info("Typing into field: {}", field.getName());
+            if (field.firstOf != null) {
+                typeIntoElement(waitForFirstOf(field.firstOf), field.value);
+            } else {
+                sendTextToElement(field.locator, field.value);
+            }
+        }
+        fillFields(batch);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void fillFields(List<FormFill.Field> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (FormFill.Field field : fields) {
+            arguments.add(field.toScriptArgument());
+        }
+        logger.info("Filling {} fields in one call: {}", fields.size(),
+                fields.stream().map(FormFill.Field::getName).collect(Collectors.toList()));
+        Duration timeout = timeout();
+        Map<String, Object> result = (Map<String, Object>) executeHelper("fillForm", arguments, timeout.toMillis());
+        int missing = ((Number) result.get("missing")).intValue();
+        if (missing >= 0) {
+            throw new TimeoutException("Form field '" + fields.get(missing).getName() + "' not visible within "
+                    + timeout.toMillis() + "ms, no field was filled");
+        }
+        List<Object> winners = (List<Object>) result.get("winners");
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).firstOf != null) {
+                fields.get(i).firstOf.recordWin(((Number) winners.get(i)).intValue());
+            }
+        }
+    }
+    
+    /**
+     * Click an already located element, clicking by script if the click is intercepted
+     */
+    protected void clickOnElement(WebElement element) {
+        try {
+            element.click();
+        } catch (ElementNotInteractableException e) {
+            logger.warn("Element not clickable, clicking using JavaScript");
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        }
+    }
+    
     /**
      * Get text from element
      */
@@ -80,16 +269,100 @@ public abstract class BasePage {
     }
     
     /**
-     * Check if element is displayed
+     * Check if element is displayed, waiting up to the default timeout without throwing
      */
     protected boolean isElementDisplayed(By locator) {
+        // Read-only scenarios trust a visible element in the shared snapshot, anything else is checked live
+        if (ReadOnlySnapshot.probe(driver, locator) == ProbeResult.PRESENT_VISIBLE) {
+            return true;
+        }
+        ProbeResult result = probe(locator, probeTimeout());
+        if (!result.isVisible()) {
+            logger.info("Element not displayed ({}): {}", result, locator);
+        }
+        return result.isVisible();
+    }
+    
+    /**
+     * Probe element state once, without waiting or throwing
+     */
+    protected ProbeResult probe(By locator) {
+        return probe(locator, Duration.ZERO);
+    }
+    
+    /**
+     * Probe element state in one browser call, returning as soon as it is visible or the wait is over
+     */
+    protected ProbeResult probe(By locator, Duration maxWait) {
+        LocatorRegistry.checkValid(locator);
+        return probeAlternative(toAlternative(locator), maxWait);
+    }
+    
+    /**
+     * Probe element along a shadow path, returning as soon as it is visible or the wait is over
+     */
+    protected ProbeResult probeShadowPath(List<String> path, Duration maxWait) {
+        return probeAlternative(Collections.singletonMap("path", path), maxWait);
+    }
+    
+    /**
+     * Probe whichever alternative of a FirstOf locator is visible first, returning as soon as one is or the
+     * wait is over; last-resort alternatives are only checked then. Never throws and records no winner.
+     */
+    protected ProbeResult probe(FirstOf locator, Duration maxWait) {
         try {
-            WebElement element = waitForElementToBeVisible(locator);
-            return element.isDisplayed();
-        } catch (Exception e) {
-            logger.warn("Element not displayed: {}", locator);
-            return false;
+            if (executeHelper("firstOf", locator.toScriptArgument(), maxWait.toMillis(), true) != null) {
+                return ProbeResult.PRESENT_VISIBLE;
+            }
+            if (!locator.lastResortToScriptArgument().isEmpty()
+                    && executeHelper("firstOf", locator.lastResortToScriptArgument(), 0, true) != null) {
+                return ProbeResult.PRESENT_VISIBLE;
+            }
+            return executeHelper("firstOf", locator.getAlternatives(), 0, false) != null
+                    ? ProbeResult.PRESENT_HIDDEN : ProbeResult.ABSENT;
+        } catch (WebDriverException e) {
+            logger.debug("Probe failed, treating as absent: {}", e.getMessage());
+            return ProbeResult.ABSENT;
+        }
+    }
+    
+    private ProbeResult probeAlternative(Map<String, Object> alternative, Duration maxWait) {
+        try {
+            return ProbeResult.fromState(executeHelper("probe", alternative, maxWait.toMillis()));
+        } catch (WebDriverException e) {
+            logger.debug("Probe failed, treating as absent: {}", e.getMessage());
+            return ProbeResult.ABSENT;
+        }
+    }
+    
+    /**
+     * Convert a CSS or XPath locator to a page helper alternative
+     */
+    static Map<String, Object> toAlternative(By locator) {
+        String css = cssSelectorOf(locator);
+        if (css != null) {
+            return Collections.singletonMap("path", Collections.singletonList(css));
+        }
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if ("xpath".equals(parameters.using())) {
+                return Collections.singletonMap("xpath", String.valueOf(parameters.value()));
+            }
+        }
+        throw new IllegalArgumentException("Only CSS and XPath locators can be probed: " + locator);
+    }
+    
+    /**
+     * Get CSS selector of a locator (By.id, By.name and By.className map to CSS), or null
+     */
+    private static String cssSelectorOf(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if ("css selector".equals(parameters.using())) {
+                return String.valueOf(parameters.value());
+            }
         }
+        return null;
     }
     
     /**
@@ -97,7 +370,7 @@ public abstract class BasePage {
      */
     protected void waitForPageTitle(String title) {
         logger.info("Waiting for page title to contain: {}", title);
-        wait.until(ExpectedConditions.titleContains(title));
+        boundedWait().until(ExpectedConditions.titleContains(title));
     }
     
     /**
@@ -105,7 +378,15 @@ public abstract class BasePage {
      */
     protected void waitForUrlToContain(String urlText) {
         logger.info("Waiting for URL to contain: {}", urlText);
-        wait.until(ExpectedConditions.urlContains(urlText));
+        boundedWait().until(ExpectedConditions.urlContains(urlText));
+    }
+    
+    /**
+     * Wait until the page has no in-flight network requests
+     */
+    protected boolean waitForNetworkIdle() {
+        logger.info("Waiting for network idle");
+        return NetworkIdle.of(driver).waitForIdle();
     }
     
     /**
@@ -122,16 +403,71 @@ public abstract class BasePage {
      */
     protected List<WebElement> getElements(By locator) {
         logger.info("Getting all elements matching: {}", locator);
+        LocatorRegistry.checkValid(locator);
         return driver.findElements(locator);
     }
     
+    /**
+     * Count elements matching locator
+     */
+    protected int getElementCount(By locator) {
+        Integer count = ReadOnlySnapshot.count(driver, locator);
+        if (count != null && count > 0) {
+            return count;
+        }
+        return countElements(locator);
+    }
+    
+    /**
+     * Count elements matching a CSS or XPath locator in the browser, without fetching element references.
+     * Waits up to the timeout for a first match, so a list that is still loading is not counted as empty.
+     */
+    protected int countElements(By locator) {
+        LocatorRegistry.checkValid(locator);
+        Map<String, Object> alternative;
+        try {
+            alternative = toAlternative(locator);
+        } catch (IllegalArgumentException e) {
+            return getElements(locator).size();
+        }
+        int count = ((Number) executeHelper("countAll", alternative, timeout().toMillis())).intValue();
+        logger.info("Counted {} elements matching: {}", count, locator);
+        return count;
+    }
+    
+    /**
+     * Read fields of up to limit elements matching a CSS or XPath locator in one browser call.
+     * A field is "text", "href", "value", an attribute name, or fallbacks like "score|data-score";
+     * each row holds one element's fields in order, null where an attribute is missing.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<List<String>> projectElements(By locator, int limit, String... fields) {
+        LocatorRegistry.checkValid(locator);
+        List<List<String>> rows = (List<List<String>>) executeHelper("project", toAlternative(locator),
+                Arrays.asList(fields), limit);
+        logger.info("Projected {} of {} elements matching: {}", Arrays.toString(fields), rows.size(), locator);
+        return rows;
+    }
+    
+    /**
+     * Read one field of every element matching a CSS or XPath locator in one browser call
+     */
+    protected List<String> projectElements(By locator, String field) {
+        List<String> values = new ArrayList<>();
+        for (List<String> row : projectElements(locator, Integer.MAX_VALUE, field)) {
+            values.add(row.get(0));
+        }
+        return values;
+    }
+    
     /**
      * Wait for element to disappear
      */
     protected boolean waitForElementToDisappear(By locator) {
         logger.info("Waiting for element to disappear: {}", locator);
+        LocatorRegistry.checkValid(locator);
         try {
-            return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            return boundedWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
         } catch (Exception e) {
             logger.warn("Element did not disappear: {}", locator);
             return false;
@@ -157,7 +493,44 @@ public abstract class BasePage {
      */
     protected void navigateToUrl(String url) {
         logger.info("Navigating to URL: {}", url);
-        driver.get(url);
+        RateLimiter limiter = ConfigReader.isRateLimitEnabled() ? RateLimiter.forUrl(url) : null;
+        if (limiter != null) {
+            limiter.acquire();
+        }
+        NetworkIdle networkIdle = NetworkIdle.of(driver);
+        networkIdle.clearDocumentStatus();
+        long start = System.nanoTime();
+        Duration pageLoadTimeout = Duration.ofSeconds(ConfigReader.getPageLoadTimeout());
+        Duration budget = Deadline.cap(pageLoadTimeout);
+        if (budget.compareTo(pageLoadTimeout) < 0) {
+            // Less budget left than a full page load: shorten the load timeout for this navigation
+            driver.manage().timeouts().pageLoadTimeout(budget);
+            try {
+                driver.get(url);
+            } finally {
+                driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout);
+            }
+        } else {
+            driver.get(url);
+        }
+        if (limiter != null) {
+            limiter.record(networkIdle.getLastDocumentStatus(), Duration.ofNanos(System.nanoTime() - start));
+        }
+        if (ConfigReader.isAnimationsDisabled()) {
+            ReducedMotion.applyIfNotRegistered(driver);
+        }
+    }
+    
+    /**
+     * Wait for the rate limiter of the current host before a request-triggering action such as a form submit
+     */
+    protected void throttle() {
+        if (ConfigReader.isRateLimitEnabled()) {
+            RateLimiter limiter = RateLimiter.forUrl(driver.getCurrentUrl());
+            if (limiter != null) {
+                limiter.acquire();
+            }
+        }
     }
     
     /**
@@ -193,7 +566,7 @@ public abstract class BasePage {
             WebElement shadowHost = waitForElementToBePresent(shadowHostLocator);
             JavascriptExecutor js = (JavascriptExecutor) driver;
             WebElement shadowRoot = (WebElement) js.executeScript("return arguments[0].shadowRoot", shadowHost);
-            return shadowRoot.findElement(elementLocator);
+            return boundedWait().until(d -> shadowRoot.findElements(elementLocator).stream().findFirst().orElse(null));
         } catch (Exception e) {
             logger.error("Failed to find element in Shadow DOM", e);
             throw new RuntimeException("Element not found in Shadow DOM", e);
@@ -232,6 +605,12 @@ public abstract class BasePage {
      * Check if element is displayed within Shadow DOM
      */
     protected boolean isElementDisplayedInShadowDOM(By shadowHostLocator, By elementLocator) {
+        String hostSelector = cssSelectorOf(shadowHostLocator);
+        String elementSelector = cssSelectorOf(elementLocator);
+        if (hostSelector != null && elementSelector != null) {
+            List<String> path = Arrays.asList(hostSelector, elementSelector);
+            return probeShadowPath(path, probeTimeout()).isVisible();
+        }
         try {
             WebElement element = findElementInShadowDOM(shadowHostLocator, elementLocator);
             return element.isDisplayed();
@@ -270,16 +649,19 @@ public abstract class BasePage {
     }
     
     /**
-     * Execute JavaScript to send text to element in Shadow DOM
+     * Call a function of the injected page helper runtime
      */
-    protected void sendTextByJavaScript(String script, String text) {
-        logger.info("Sending text '{}' using JavaScript: {}", text, script);
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript(script + ".value = '" + text + "'");
-        } catch (Exception e) {
-            logger.error("Failed to send text using JavaScript", e);
-            throw new RuntimeException("Failed to send text using JavaScript", e);
-        }
+    protected Object executeHelper(String function, Object... args) {
+        logger.debug("Calling page helper: {}", function);
+        return PageHelpers.call(driver, function, args);
+    }
+    
+    /**
+     * Build a shadow path: each host's shadow root is searched for the next selector
+     */
+    protected static List<String> shadowPath(List<String> shadowHosts, String selector) {
+        List<String> path = new ArrayList<>(shadowHosts);
+        path.add(selector);
+        return path;
     }
 }
@@ -0,0 +1,187 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Suite-level circuit breaker. Trips after N consecutive failures with the same root cause
+ * signature (exception type, failing locator, network error, HTTP status, page title) so the
+ * remaining tests are rejected instantly instead of each waiting out its timeouts. While open, one
+ * probe test is let through every probe interval; if it passes the circuit closes again. Only the
+ * probe's own result decides: tests that started before the trip may still finish meanwhile.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final CircuitBreaker INSTANCE = new CircuitBreaker(ConfigReader.getCircuitBreakerThreshold(),
+            ConfigReader.getCircuitBreakerProbeSeconds() * 1000L);
+    private static final Pattern LOCATOR = Pattern.compile("By\\.\\w+: .+?(?= \\(tried|\\n|$)|No alternative of '[^']+'");
+    private static final Pattern NET_ERROR = Pattern.compile("net::ERR_[A-Z_]+|HTTP \\d{3}");
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int threshold;
+    private final long probeIntervalMillis;
+    private String lastSignature;
+    private int consecutiveFailures;
+    private State state = State.CLOSED;
+    private Thread probeThread;
+    private String tripSignature;
+    private long openedAt;
+    private int trips;
+    private int rejected;
+
+    CircuitBreaker(int threshold, long probeIntervalMillis) {
+        this.threshold = threshold;
+        this.probeIntervalMillis = probeIntervalMillis;
+    }
+
+    /**
+     * Get the breaker shared by the whole suite
+     */
+    public static CircuitBreaker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Check if a test may run. While open, lets one probe through per probe interval.
+     */
+    public synchronized boolean allowTest(String testName) {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= probeIntervalMillis) {
+            state = State.HALF_OPEN;
+            probeThread = Thread.currentThread();
+            logger.info("Circuit half-open, probing with: {}", testName);
+            return true;
+        }
+        if (state != State.CLOSED) {
+            rejected++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record a passed test, closing the circuit if it was the probe
+     */
+    public synchronized void recordSuccess() {
+        lastSignature = null;
+        consecutiveFailures = 0;
+        if (isProbe()) {
+            logger.info("Probe passed, circuit closed ({} tests rejected so far)", rejected);
+            state = State.CLOSED;
+            probeThread = null;
+        }
+    }
+
+    /**
+     * Record a failed test, tripping the circuit when its signature repeats threshold times in a row
+     */
+    public synchronized void recordFailure(String signature) {
+        if (signature.equals(lastSignature)) {
+            consecutiveFailures++;
+        } else {
+            lastSignature = signature;
+            consecutiveFailures = 1;
+        }
+        if (isProbe()) {
+            logger.warn("Probe failed, circuit open again: {}", signature);
+            open(signature);
+        } else if (state == State.CLOSED && consecutiveFailures >= threshold) {
+            logger.error("Circuit tripped after {} consecutive failures: {}", consecutiveFailures, signature);
+            trips++;
+            open(signature);
+        }
+    }
+
+    /**
+     * Record a skipped test. A skipped probe says nothing about the cause, so the next test probes instead.
+     */
+    public synchronized void recordSkipped() {
+        if (isProbe()) {
+            logger.info("Probe skipped, next test probes instead");
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis() - probeIntervalMillis;
+            probeThread = null;
+        }
+    }
+
+    /**
+     * Check if the calling thread runs the probe of a half-open circuit
+     */
+    private boolean isProbe() {
+        return state == State.HALF_OPEN && probeThread == Thread.currentThread();
+    }
+
+    private void open(String signature) {
+        state = State.OPEN;
+        probeThread = null;
+        tripSignature = signature;
+        openedAt = System.currentTimeMillis();
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Summarize breaker activity for the end of the run
+     */
+    public synchronized String summary() {
+        if (trips == 0) {
+            return "Circuit breaker never tripped";
+        }
+        return String.format("Circuit breaker %s, tripped %d time(s), %d test(s) rejected, last cause: %s",
+                state, trips, rejected, tripSignature);
+    }
+
+    /**
+     * Build root cause signature of a failure: exception type, failing locator or network error,
+     * HTTP status of the last document, page title
+     */
+    public static String signatureOf(Throwable error, WebDriver driver) {
+        if (driver == null) {
+            return signatureOf(error, 0, null);
+        }
+        String title;
+        try {
+            title = driver.getTitle();
+        } catch (Exception e) {
+            title = null;
+        }
+        return signatureOf(error, NetworkIdle.lastDocumentStatusOf(driver), title);
+    }
+
+    /**
+     * Build root cause signature from an error, a document status (0 if unknown) and a page title (null if unavailable)
+     */
+    static String signatureOf(Throwable error, int documentStatus, String title) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        StringBuilder signature = new StringBuilder(root.getClass().getSimpleName());
+        String message = String.valueOf(root.getMessage()) + "\n" + error.getMessage();
+        Matcher locator = LOCATOR.matcher(message);
+        if (locator.find()) {
+            signature.append(" | ").append(locator.group());
+        }
+        Matcher netError = NET_ERROR.matcher(message);
+        if (netError.find()) {
+            signature.append(" | ").append(netError.group());
+        }
+        // Throttling and outages (429, 503) often surface as plain element timeouts, so the status is part of the cause
+        String status = "HTTP " + documentStatus;
+        if (documentStatus >= 400 && signature.indexOf(status) < 0) {
+            signature.append(" | ").append(status);
+        }
+        if (title != null) {
+            signature.append(" | title=").append(title);
+        }
+        return signature.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+/**
+ * TestNG listener applying the suite circuit breaker to every test method, Cucumber scenarios included
+ */
+public class CircuitBreakerListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerListener.class);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || !ConfigReader.isCircuitBreakerEnabled()) {
+            return;
+        }
+        CircuitBreaker breaker = CircuitBreaker.getInstance();
+        if (!breaker.allowTest(testResult.getName())) {
+            String message = "Rejected by open circuit breaker. " + breaker.summary();
+            if ("fail".equalsIgnoreCase(ConfigReader.getCircuitBreakerAction())) {
+                throw new CircuitOpenException(message);
+            }
+            throw new RejectedException(message);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || !ConfigReader.isCircuitBreakerEnabled()) {
+            return;
+        }
+        Throwable error = testResult.getThrowable();
+        if (error instanceof CircuitOpenException || error instanceof RejectedException) {
+            return;
+        }
+        if (testResult.getStatus() == ITestResult.SUCCESS) {
+            CircuitBreaker.getInstance().recordSuccess();
+        } else if (testResult.getStatus() == ITestResult.FAILURE && error != null) {
+            CircuitBreaker.getInstance().recordFailure(CircuitBreaker.signatureOf(error, DriverManager.getDriver()));
+        } else if (testResult.getStatus() == ITestResult.SKIP) {
+            CircuitBreaker.getInstance().recordSkipped();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (ConfigReader.isCircuitBreakerEnabled()) {
+            logger.info(CircuitBreaker.getInstance().summary());
+        }
+    }
+
+    /**
+     * Thrown for tests rejected while the circuit is open and circuit.breaker.action is fail
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Thrown for tests rejected while the circuit is open and circuit.breaker.action is skip
+     */
+    private static class RejectedException extends SkipException {
+        private static final long serialVersionUID = 1L;
+
+        RejectedException(String message) {
+            super(message);
+        }
+    }
+}
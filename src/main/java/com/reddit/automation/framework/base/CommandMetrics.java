@@ -0,0 +1,94 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-session WebDriver command metrics, collected as an HTTP client filter
+ */
+public class CommandMetrics implements Filter {
+
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            int current = inFlight.incrementAndGet();
+            peakInFlight.accumulateAndGet(current, Math::max);
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                HttpResponse response = next.execute(request);
+                success = response.isSuccessful();
+                return response;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                inFlight.decrementAndGet();
+                commands.incrementAndGet();
+                totalNanos.addAndGet(elapsed);
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+                if (!success) {
+                    failures.incrementAndGet();
+                }
+            }
+        };
+    }
+
+    /**
+     * Get number of commands sent to the driver
+     */
+    public long getCommandCount() {
+        return commands.get();
+    }
+
+    /**
+     * Get number of commands that failed or returned a non-2xx status
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * Get number of commands currently waiting on a response
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get highest number of concurrent commands seen, i.e. connections the pool had to hold open
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    /**
+     * Get average command round trip in milliseconds
+     */
+    public double getAverageLatencyMillis() {
+        long count = commands.get();
+        return count == 0 ? 0 : totalNanos.get() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Get slowest command round trip in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CommandMetrics{commands=%d, failures=%d, avgMs=%.1f, maxMs=%.1f, peakInFlight=%d}",
+                getCommandCount(), getFailureCount(), getAverageLatencyMillis(), getMaxLatencyMillis(), getPeakInFlight());
+    }
+}
@@ -0,0 +1,103 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Hierarchical time budget of the current thread, e.g. scenario, then step.
+ * A child never outlives its parent, and waits and navigations are capped to what is left,
+ * so a stuck scenario ends when its budget does instead of after the sum of fixed timeouts.
+ */
+public final class Deadline implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Deadline.class);
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final long expiresAt;
+    private final Deadline parent;
+
+    private Deadline(String name, long expiresAt, Deadline parent) {
+        this.name = name;
+        this.expiresAt = expiresAt;
+        this.parent = parent;
+    }
+
+    /**
+     * Start a budget for the current thread, nested in the current one if any.
+     * Close it (try-with-resources) to return to the parent budget.
+     */
+    public static Deadline start(String name, Duration budget) {
+        Deadline parent = CURRENT.get();
+        long expiresAt = System.nanoTime() + budget.toNanos();
+        if (parent != null && parent.expiresAt - expiresAt < 0) {
+            expiresAt = parent.expiresAt;
+        }
+        Deadline deadline = new Deadline(parent == null ? name : parent.name + " > " + name, expiresAt, parent);
+        CURRENT.set(deadline);
+        logger.debug("Deadline '{}' started with {}ms", deadline.name, deadline.remaining().toMillis());
+        return deadline;
+    }
+
+    /**
+     * Get budget of the current thread, or null if none was started
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Cap a timeout to the remaining budget of the current thread.
+     * Throws TimeoutException if the budget is already used up.
+     */
+    public static Duration cap(Duration timeout) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return timeout;
+        }
+        Duration remaining = deadline.remaining();
+        if (remaining.isZero()) {
+            throw new TimeoutException("Time budget exhausted: " + deadline.name);
+        }
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Cap a timeout to the remaining budget of the current thread, for checks that must not throw:
+     * returns zero instead of throwing once the budget is used up
+     */
+    public static Duration capOrZero(Duration timeout) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return timeout;
+        }
+        Duration remaining = deadline.remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Get time left before this budget expires
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAt - System.nanoTime()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) {
+            logger.warn("Closing deadline '{}' that is not the current one", name);
+        }
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.reddit.automation.framework.base;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dumps the composed DOM tree, open shadow roots included, in one script call (js/dom-dump.js).
+ * Depth, node count and attributes are capped so huge pages stay cheap to dump and diff.
+ * The tree comes back from the browser as one JSON string and is written to the file as is, not
+ * streamed, so maxNodes is what bounds the memory a dump takes.
+ */
+public class DomDumper {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomDumper.class);
+    private static final String SCRIPT = PageHelpers.loadScript("/js/dom-dump.js");
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final WebDriver driver;
+    private int maxDepth = ConfigReader.getDomDumpMaxDepth();
+    private int maxNodes = ConfigReader.getDomDumpMaxNodes();
+    private int maxAttributes = ConfigReader.getDomDumpMaxAttributes();
+    private int maxValueLength = 120;
+    private int maxText = 0;
+
+    public DomDumper(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Limit nesting depth; deeper subtrees are marked with "more"
+     */
+    public DomDumper maxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Limit total number of dumped nodes
+     */
+    public DomDumper maxNodes(int maxNodes) {
+        this.maxNodes = maxNodes;
+        return this;
+    }
+
+    /**
+     * Limit attributes per element and length of each attribute value
+     */
+    public DomDumper maxAttributes(int maxAttributes, int maxValueLength) {
+        this.maxAttributes = maxAttributes;
+        this.maxValueLength = maxValueLength;
+        return this;
+    }
+
+    /**
+     * Include non-blank text nodes, clipped to the given length (0 leaves text out)
+     */
+    public DomDumper withText(int maxText) {
+        this.maxText = maxText;
+        return this;
+    }
+
+    /**
+     * Dump the current page to a JSON file under the configured dump directory
+     */
+    public Dump dump(String name) throws IOException {
+        return dump(Paths.get(ConfigReader.getDomDumpDir(), name + ".json"));
+    }
+
+    /**
+     * Dump the current page to a JSON file
+     */
+    public Dump dump(Path file) throws IOException {
+        long start = System.nanoTime();
+        Dump dump = capture();
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             JsonGenerator json = jsonFactory.createGenerator(writer)) {
+            json.writeStartObject();
+            json.writeStringField("url", dump.url);
+            json.writeNumberField("nodes", dump.nodeCount);
+            json.writeBooleanField("truncated", dump.truncated);
+            json.writeFieldName("tree");
+            json.writeRawValue(dump.json);
+            json.writeEndObject();
+        }
+        logger.info("Dumped {} nodes{} from {} to {} in {}ms", dump.nodeCount,
+                dump.truncated ? " (truncated)" : "", dump.url, file, (System.nanoTime() - start) / 1_000_000);
+        return dump;
+    }
+
+    /**
+     * Serialize the composed tree of the current page without writing it anywhere
+     */
+    public Dump capture() {
+        Map<String, Object> options = new HashMap<>();
+        options.put("maxDepth", maxDepth);
+        options.put("maxNodes", maxNodes);
+        options.put("maxAttributes", maxAttributes);
+        options.put("maxValueLength", maxValueLength);
+        options.put("maxText", maxText);
+        List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(SCRIPT, options);
+        return new Dump(driver.getCurrentUrl(), ((Number) result.get(0)).intValue(),
+                Boolean.TRUE.equals(result.get(1)), (String) result.get(2));
+    }
+
+    /**
+     * Serialized composed tree of one page
+     */
+    public static class Dump {
+        private final String url;
+        private final int nodeCount;
+        private final boolean truncated;
+        private final String json;
+
+        Dump(String url, int nodeCount, boolean truncated, String json) {
+            this.url = url;
+            this.nodeCount = nodeCount;
+            this.truncated = truncated;
+            this.json = json;
+        }
+
+        public String getUrl() { return url; }
+        public int getNodeCount() { return nodeCount; }
+        public boolean isTruncated() { return truncated; }
+        public String getJson() { return json; }
+    }
+}
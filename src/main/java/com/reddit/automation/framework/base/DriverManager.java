@@ -1,13 +1,19 @@
 package com.reddit.automation.framework.base;
 
+import com.reddit.automation.framework.utils.ConfigReader;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxDriverService;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.http.ClientConfig;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 import org.slf4j.Logger;
@@ -22,38 +28,82 @@ public class DriverManager {
     
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static ThreadLocal<CommandMetrics> metricsThreadLocal = new ThreadLocal<>();
+    
+    static {
+        configureHttpClient();
+    }
+    
+    /**
+     * Select the WebDriver HTTP client and tune its connection pool.
+     * The JDK client reads these properties once, so this must run before the first session.
+     */
+    private static void configureHttpClient() {
+        String httpClient = ConfigReader.getHttpClient();
+        if (!httpClient.isEmpty() && System.getProperty("webdriver.http.factory") == null) {
+            System.setProperty("webdriver.http.factory", httpClient);
+        }
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(ConfigReader.getHttpKeepAliveTimeout()));
+        }
+        if (System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(ConfigReader.getHttpPoolSize()));
+        }
+        logger.info("WebDriver HTTP client: {}, keep-alive: {}s", httpClient, ConfigReader.getHttpKeepAliveTimeout());
+    }
+    
+    /**
+     * Build client config with explicit timeouts and a metrics filter for the new session
+     */
+    private static ClientConfig buildClientConfig(CommandMetrics metrics) {
+        return ClientConfig.defaultConfig()
+                .connectionTimeout(Duration.ofSeconds(ConfigReader.getHttpConnectTimeout()))
+                .readTimeout(Duration.ofSeconds(ConfigReader.getHttpReadTimeout()))
+                .withFilter(metrics);
+    }
     
     /**
      * Initialize WebDriver based on browser type
      */
     public static WebDriver initializeDriver(String browserType) {
         WebDriver driver = null;
+        CommandMetrics metrics = new CommandMetrics();
+        ClientConfig clientConfig = buildClientConfig(metrics);
         
         try {
             switch (browserType.toLowerCase()) {
                 case "chrome":
-                    driver = initializeChromeDriver();
+                    driver = initializeChromeDriver(clientConfig);
                     break;
                 case "firefox":
-                    driver = initializeFirefoxDriver();
+                    driver = initializeFirefoxDriver(clientConfig);
                     break;
                 case "edge":
-                    driver = initializeEdgeDriver();
+                    driver = initializeEdgeDriver(clientConfig);
                     break;
                 case "safari":
                     driver = initializeSafariDriver();
                     break;
                 default:
                     logger.warn("Unsupported browser type: {}. Defaulting to Chrome.", browserType);
-                    driver = initializeChromeDriver();
+                    driver = initializeChromeDriver(clientConfig);
             }
             
             // Configure driver
             driver.manage().window().maximize();
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+            // Under a time budget every wait is explicit and capped; an implicit wait would let each
+            // element lookup inside those waits block for its full length and overrun the budget
+            Duration implicitWait = Deadline.current() != null ? Duration.ZERO : Duration.ofSeconds(ConfigReader.getImplicitWait());
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
+            PageHelpers.install(driver);
+            if (ConfigReader.isAnimationsDisabled()) {
+                ReducedMotion.install(driver);
+            }
+            NetworkIdle.of(driver);
             
             driverThreadLocal.set(driver);
+            metricsThreadLocal.set(metrics);
             logger.info("WebDriver initialized successfully for browser: {}", browserType);
             
         } catch (Exception e) {
@@ -67,7 +117,7 @@ public class DriverManager {
     /**
      * Initialize Chrome WebDriver
      */
-    private static WebDriver initializeChromeDriver() {
+    private static WebDriver initializeChromeDriver(ClientConfig clientConfig) {
         WebDriverManager.chromedriver().setup();
         ChromeOptions options = new ChromeOptions();
         
@@ -76,6 +126,9 @@ public class DriverManager {
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--disable-gpu");
         options.addArguments("--remote-allow-origins=*");
+        if (ConfigReader.isAnimationsDisabled()) {
+            options.addArguments("--force-prefers-reduced-motion");
+        }
         
         // Add headless option if needed
         String headless = System.getProperty("headless", "false");
@@ -83,15 +136,18 @@ public class DriverManager {
             options.addArguments("--headless");
         }
         
-        return new ChromeDriver(options);
+        return new ChromeDriver(ChromeDriverService.createDefaultService(), options, clientConfig);
     }
     
     /**
      * Initialize Firefox WebDriver
      */
-    private static WebDriver initializeFirefoxDriver() {
+    private static WebDriver initializeFirefoxDriver(ClientConfig clientConfig) {
         WebDriverManager.firefoxdriver().setup();
         FirefoxOptions options = new FirefoxOptions();
+        if (ConfigReader.isAnimationsDisabled()) {
+            options.addPreference("ui.prefersReducedMotion", 1);
+        }
         
         // Add headless option if needed
         String headless = System.getProperty("headless", "false");
@@ -99,15 +155,19 @@ public class DriverManager {
             options.addArguments("--headless");
         }
         
-        return new FirefoxDriver(options);
+        FirefoxDriverService service = GeckoDriverService.createDefaultService();
+        return new FirefoxDriver(service, options, clientConfig);
     }
     
     /**
      * Initialize Edge WebDriver
      */
-    private static WebDriver initializeEdgeDriver() {
+    private static WebDriver initializeEdgeDriver(ClientConfig clientConfig) {
         WebDriverManager.edgedriver().setup();
         EdgeOptions options = new EdgeOptions();
+        if (ConfigReader.isAnimationsDisabled()) {
+            options.addArguments("--force-prefers-reduced-motion");
+        }
         
         // Add headless option if needed
         String headless = System.getProperty("headless", "false");
@@ -115,7 +175,7 @@ public class DriverManager {
             options.addArguments("--headless");
         }
         
-        return new EdgeDriver(options);
+        return new EdgeDriver(EdgeDriverService.createDefaultService(), options, clientConfig);
     }
     
     /**
@@ -133,6 +193,13 @@ public class DriverManager {
         return driverThreadLocal.get();
     }
     
+    /**
+     * Get command metrics for the current thread's session
+     */
+    public static CommandMetrics getCommandMetrics() {
+        return metricsThreadLocal.get();
+    }
+    
     /**
      * Quit WebDriver and clean up
      */
@@ -140,12 +207,16 @@ public class DriverManager {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             try {
+                logger.info("Session command metrics: {}", metricsThreadLocal.get());
                 driver.quit();
                 logger.info("WebDriver quit successfully");
             } catch (Exception e) {
                 logger.error("Error occurred while quitting WebDriver", e);
             } finally {
+                NetworkIdle.release(driver);
+                ReducedMotion.release(driver);
                 driverThreadLocal.remove();
+                metricsThreadLocal.remove();
             }
         }
     }
@@ -0,0 +1,247 @@
+package com.reddit.automation.framework.base;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams an infinite-scroll feed to a JSONL file. Each browser call projects the fields of the
+ * items not read before, scrolling for more when there are none; records are written as they
+ * arrive and only a 64-bit hash per item id is kept for deduplication, so memory stays flat
+ * however long the feed runs. Stops at a record count, the time budget or the end of the feed.
+ */
+public class FeedExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedExtractor.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final String MARKER = "data-feed-extracted";
+
+    private final WebDriver driver;
+    private final Map<String, Object> alternative;
+    private final String[] names;
+    private final String[] fields;
+    private final boolean[] numeric;
+    private int maxRecords = ConfigReader.getFeedMaxPosts();
+    private Duration budget = Duration.ofSeconds(ConfigReader.getFeedBudget());
+    private long batchWaitMillis = ConfigReader.getFeedBatchWaitMillis();
+    private int maxEmptyBatches = ConfigReader.getFeedMaxEmptyBatches();
+
+    /**
+     * Extract items of a CSS or XPath locator. fields maps record names to projected fields
+     * ("text", "href", an attribute, or fallbacks like "score|data-score"); the first one is the id.
+     */
+    public FeedExtractor(WebDriver driver, By items, Map<String, String> fields) {
+        this.driver = driver;
+        this.alternative = BasePage.toAlternative(items);
+        this.names = fields.keySet().toArray(new String[0]);
+        this.fields = fields.values().toArray(new String[0]);
+        this.numeric = new boolean[names.length];
+    }
+
+    /**
+     * Write these record fields as JSON numbers when their value is an integer; all others stay strings
+     */
+    public FeedExtractor numeric(String... numericNames) {
+        List<String> declared = Arrays.asList(numericNames);
+        for (int i = 0; i < names.length; i++) {
+            numeric[i] = declared.contains(names[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Stop after this many records
+     */
+    public FeedExtractor maxRecords(int maxRecords) {
+        this.maxRecords = maxRecords;
+        return this;
+    }
+
+    /**
+     * Stop after this long, or earlier if the current time budget ends first
+     */
+    public FeedExtractor budget(Duration budget) {
+        this.budget = budget;
+        return this;
+    }
+
+    /**
+     * Stream records to a JSONL file, one JSON object per line
+     */
+    @SuppressWarnings("unchecked")
+    public Result extract(Path output) throws IOException {
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        long start = System.nanoTime();
+        long deadline = start + Deadline.cap(budget).toNanos();
+        LongHashSet seen = new LongHashSet();
+        int records = 0;
+        int duplicates = 0;
+        int batches = 0;
+        int emptyBatches = 0;
+        String stopReason = "max records";
+        try (OutputStream out = Files.newOutputStream(output);
+             JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            json.setRootValueSeparator(new SerializedString("\n"));
+            while (records < maxRecords) {
+                if (System.nanoTime() - deadline >= 0) {
+                    stopReason = "time budget";
+                    break;
+                }
+                List<List<Object>> rows = (List<List<Object>>) PageHelpers.call(driver, "nextBatch",
+                        alternative, Arrays.asList(fields), MARKER, batchWaitMillis);
+                batches++;
+                if (rows.isEmpty()) {
+                    if (++emptyBatches >= maxEmptyBatches) {
+                        stopReason = "end of feed";
+                        break;
+                    }
+                    continue;
+                }
+                emptyBatches = 0;
+                for (List<Object> row : rows) {
+                    Object id = row.get(0);
+                    if (id == null || !seen.add(hash(String.valueOf(id)))) {
+                        duplicates++;
+                        continue;
+                    }
+                    json.writeStartObject();
+                    for (int i = 0; i < names.length; i++) {
+                        json.writeFieldName(names[i]);
+                        writeValue(json, row.get(i), numeric[i]);
+                    }
+                    json.writeEndObject();
+                    if (++records >= maxRecords) {
+                        break;
+                    }
+                }
+                json.flush();
+                logger.debug("Feed batch {}: {} rows, {} records so far", batches, rows.size(), records);
+            }
+            json.flush();
+            if (records > 0) {
+                out.write('\n');
+            }
+        }
+        Result result = new Result(records, duplicates, batches, Duration.ofNanos(System.nanoTime() - start), stopReason);
+        logger.info("Extracted {} feed records to {} ({})", records, output, result);
+        return result;
+    }
+
+    private static void writeValue(JsonGenerator json, Object value, boolean numeric) throws IOException {
+        if (value instanceof String) {
+            String text = (String) value;
+            // Scores and counts are read as attribute strings; other fields stay strings even if all digits
+            if (numeric && text.matches("-?\\d{1,18}")) {
+                json.writeNumber(Long.parseLong(text));
+            } else {
+                json.writeString(text);
+            }
+        } else if (value instanceof Number) {
+            json.writeNumber(((Number) value).longValue());
+        } else if (value == null) {
+            json.writeNull();
+        } else {
+            json.writeString(String.valueOf(value));
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of an id; collisions are negligible at feed sizes
+     */
+    static long hash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Open addressing set of longs: 8 to 16 bytes per entry instead of a String and a HashMap node
+     */
+    static final class LongHashSet {
+        private long[] table = new long[1024];
+        private boolean hasZero;
+        private int size;
+
+        boolean add(long value) {
+            if (value == 0) {
+                boolean added = !hasZero;
+                hasZero = true;
+                return added;
+            }
+            if ((size + 1) * 2 > table.length) {
+                grow();
+            }
+            int mask = table.length - 1;
+            int index = (int) (value ^ (value >>> 32)) & mask;
+            while (table[index] != 0) {
+                if (table[index] == value) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            size = 0;
+            for (long value : old) {
+                if (value != 0) {
+                    add(value);
+                }
+            }
+        }
+    }
+
+    public static class Result {
+        private final int records;
+        private final int duplicates;
+        private final int batches;
+        private final Duration elapsed;
+        private final String stopReason;
+
+        Result(int records, int duplicates, int batches, Duration elapsed, String stopReason) {
+            this.records = records;
+            this.duplicates = duplicates;
+            this.batches = batches;
+            this.elapsed = elapsed;
+            this.stopReason = stopReason;
+        }
+
+        public int getRecords() { return records; }
+        public int getDuplicates() { return duplicates; }
+        public int getBatches() { return batches; }
+        public Duration getElapsed() { return elapsed; }
+        public String getStopReason() { return stopReason; }
+
+        @Override
+        public String toString() {
+            return String.format("records=%d, duplicates=%d, batches=%d, elapsed=%dms, stopped on %s",
+                    records, duplicates, batches, elapsed.toMillis(), stopReason);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.reddit.automation.framework.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Locator made of alternatives that are evaluated together in the browser.
+ * The first alternative to match wins; earlier alternatives win ties.
+ * Catch-all alternatives go after lastResort() and are only tried once the others have missed for the whole wait.
+ * Win counts are kept per alternative so page objects can see which one Reddit currently serves.
+ */
+public class FirstOf {
+
+    private final String name;
+    private final List<Map<String, Object>> alternatives = new ArrayList<>();
+    private final List<String> descriptions = new ArrayList<>();
+    private final List<AtomicInteger> wins = new ArrayList<>();
+    private volatile int lastWinner = -1;
+    private int lastResortFrom = -1;
+
+    private FirstOf(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Start a locator with a descriptive name used in logs
+     */
+    public static FirstOf named(String name) {
+        return new FirstOf(name);
+    }
+
+    /**
+     * Add CSS selector alternative searched in the document
+     */
+    public FirstOf css(String selector) {
+        return add(Collections.singletonMap("path", Collections.singletonList(selector)), "css: " + selector);
+    }
+
+    /**
+     * Add shadow path alternative (see BasePage.shadowPath)
+     */
+    public FirstOf shadow(List<String> path) {
+        return add(Collections.singletonMap("path", new ArrayList<>(path)), "shadow: " + String.join(" >> ", path));
+    }
+
+    /**
+     * Add XPath alternative searched in the document
+     */
+    public FirstOf xpath(String xpath) {
+        return add(Collections.singletonMap("xpath", xpath), "xpath: " + xpath);
+    }
+
+    /**
+     * Start the last-resort alternatives: broad selectors that could match an unrelated element,
+     * tried only once every earlier alternative has missed for the whole wait
+     */
+    public FirstOf lastResort() {
+        lastResortFrom = alternatives.size();
+        return this;
+    }
+
+    private FirstOf add(Map<String, Object> alternative, String description) {
+        alternatives.add(alternative);
+        descriptions.add(description);
+        wins.add(new AtomicInteger());
+        return this;
+    }
+
+    /**
+     * Get the raced alternatives in the shape expected by the page helper firstOf function
+     */
+    List<Map<String, Object>> toScriptArgument() {
+        return lastResortFrom < 0 ? alternatives : alternatives.subList(0, lastResortFrom);
+    }
+
+    /**
+     * Get the last-resort alternatives in the same shape, empty if there are none
+     */
+    List<Map<String, Object>> lastResortToScriptArgument() {
+        return lastResortFrom < 0 ? Collections.emptyList() : alternatives.subList(lastResortFrom, alternatives.size());
+    }
+
+    /**
+     * Get every alternative, raced and last-resort
+     */
+    List<Map<String, Object>> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Record that an alternative matched
+     */
+    void recordWin(int index) {
+        wins.get(index).incrementAndGet();
+        lastWinner = index;
+    }
+
+    /**
+     * Get locator name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get description of an alternative
+     */
+    public String describe(int index) {
+        return descriptions.get(index);
+    }
+
+    /**
+     * Get description of the alternative that matched last, or null if none has matched yet
+     */
+    public String getLastWinner() {
+        int index = lastWinner;
+        return index < 0 ? null : descriptions.get(index);
+    }
+
+    /**
+     * Get number of wins per alternative
+     */
+    public Map<String, Integer> getWinCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < descriptions.size(); i++) {
+            counts.put(descriptions.get(i), wins.get(i).get());
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "FirstOf{" + name + ": " + descriptions + "}";
+    }
+}
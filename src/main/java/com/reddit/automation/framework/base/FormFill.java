@@ -0,0 +1,99 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values for a whole form, filled by BasePage.fillForm. Fields added with set are filled together
+ * in one browser call that fires input and change events; fields added with type get real
+ * keystrokes, for inputs that only react to key events.
+ */
+public class FormFill {
+
+    private final List<Field> fields = new ArrayList<>();
+
+    private FormFill() {
+    }
+
+    /**
+     * Start an empty form
+     */
+    public static FormFill create() {
+        return new FormFill();
+    }
+
+    /**
+     * Fill field with value by script
+     */
+    public FormFill set(By field, String value) {
+        return add(field, null, value, false);
+    }
+
+    /**
+     * Fill whichever alternative of field matches first with value by script
+     */
+    public FormFill set(FirstOf field, String value) {
+        return add(null, field, value, false);
+    }
+
+    /**
+     * Type value into field with real keystrokes
+     */
+    public FormFill type(By field, String value) {
+        return add(field, null, value, true);
+    }
+
+    /**
+     * Type value into whichever alternative of field matches first with real keystrokes
+     */
+    public FormFill type(FirstOf field, String value) {
+        return add(null, field, value, true);
+    }
+
+    private FormFill add(By locator, FirstOf firstOf, String value, boolean typed) {
+        fields.add(new Field(locator, firstOf, value == null ? "" : value, typed));
+        return this;
+    }
+
+    List<Field> getFields() {
+        return fields;
+    }
+
+    static final class Field {
+        final By locator;
+        final FirstOf firstOf;
+        final String value;
+        final boolean typed;
+
+        private Field(By locator, FirstOf firstOf, String value, boolean typed) {
+            this.locator = locator;
+            this.firstOf = firstOf;
+            this.value = value;
+            this.typed = typed;
+        }
+
+        String getName() {
+            return firstOf != null ? firstOf.getName() : String.valueOf(locator);
+        }
+
+        /**
+         * Describe field in the shape expected by the page helper fillForm function
+         */
+        Map<String, Object> toScriptArgument() {
+            Map<String, Object> field = new HashMap<>();
+            field.put("alternatives", firstOf != null
+                    ? firstOf.toScriptArgument()
+                    : Collections.singletonList(BasePage.toAlternative(locator)));
+            field.put("lastResort", firstOf != null
+                    ? firstOf.lastResortToScriptArgument()
+                    : Collections.emptyList());
+            field.put("value", value);
+            return field;
+        }
+    }
+}
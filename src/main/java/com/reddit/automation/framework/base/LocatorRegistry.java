@@ -0,0 +1,249 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import com.reddit.automation.framework.utils.XPathToCss;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central registry of page object locators.
+ * XPath is compiled when a locator is registered; CSS syntax is checked once per run in the
+ * browser by validate(). Locators found invalid fail immediately instead of waiting out a timeout.
+ */
+public final class LocatorRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorRegistry.class);
+    private static final Map<String, Entry> LOCATORS = Collections.synchronizedMap(new LinkedHashMap<>());
+    private static final Map<By, String> INVALID = new ConcurrentHashMap<>();
+    private static final Map<By, String> NAMES = new ConcurrentHashMap<>();
+    private static final String VALIDATE_SCRIPT =
+            "var invalid = {};" +
+            "arguments[0].forEach(function (l) {" +
+            "  try {" +
+            "    if (l.type === 'xpath') {" +
+            "      document.evaluate(l.expression, document, null, XPathResult.ANY_TYPE, null);" +
+            "    } else {" +
+            "      document.querySelector(l.expression);" +
+            "    }" +
+            "  } catch (e) { invalid[l.name] = e.message; }" +
+            "});" +
+            "return invalid;";
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Register a CSS locator
+     */
+    public static By css(String name, String selector) {
+        return register(name, "css", selector, selector, By.cssSelector(selector));
+    }
+
+    /**
+     * Register an XPath locator, compiling it right away.
+     * XPath with an exact CSS equivalent is rewritten to CSS unless locator.xpath.rewrite is off.
+     */
+    public static By xpath(String name, String xpath) {
+        By locator = By.xpath(xpath);
+        try {
+            XPathFactory.newInstance().newXPath().compile(xpath);
+        } catch (XPathExpressionException e) {
+            markInvalid(name, locator, "XPath does not compile: " + e.getMessage());
+            return register(name, "xpath", xpath, xpath, locator);
+        }
+        String css = XPathToCss.translate(xpath);
+        if (css != null && ConfigReader.isXPathRewriteEnabled()) {
+            logger.debug("Rewrote {} from XPath {} to CSS {}", name, xpath, css);
+            return register(name, "css", css, xpath, By.cssSelector(css));
+        }
+        return register(name, "xpath", xpath, xpath, locator);
+    }
+
+    /**
+     * Register every alternative of a FirstOf locator
+     */
+    public static FirstOf firstOf(String name, FirstOf locator) {
+        List<Map<String, Object>> alternatives = locator.getAlternatives();
+        for (int i = 0; i < alternatives.size(); i++) {
+            Map<String, Object> alternative = alternatives.get(i);
+            if (alternative.containsKey("xpath")) {
+                xpath(name + "[" + i + "]", (String) alternative.get("xpath"));
+            } else {
+                List<?> path = (List<?>) alternative.get("path");
+                for (int j = 0; j < path.size(); j++) {
+                    css(name + "[" + i + "][" + j + "]", (String) path.get(j));
+                }
+            }
+        }
+        return locator;
+    }
+
+    private static By register(String name, String type, String expression, String source, By locator) {
+        LOCATORS.put(name, new Entry(type, expression, source, locator));
+        NAMES.putIfAbsent(locator, name);
+        return locator;
+    }
+
+    private static void markInvalid(String name, By locator, String reason) {
+        INVALID.put(locator, reason);
+        logger.error("Invalid locator {} ({}): {}", name, locator, reason);
+    }
+
+    /**
+     * Fail fast if the locator was found invalid
+     */
+    public static void checkValid(By locator) {
+        String reason = INVALID.get(locator);
+        if (reason != null) {
+            throw new InvalidSelectorException("Invalid locator " + locator + ": " + reason);
+        }
+    }
+
+    /**
+     * Get registered name of a locator, or null if it was not registered
+     */
+    public static String nameOf(By locator) {
+        return NAMES.get(locator);
+    }
+
+    /**
+     * Get branches of a registered CSS selector list, e.g. "a, b" gives [a, b].
+     * Returns an empty list for unregistered and XPath locators.
+     */
+    public static List<String> cssBranches(By locator) {
+        String name = NAMES.get(locator);
+        Entry entry = name == null ? null : LOCATORS.get(name);
+        if (entry == null || !"css".equals(entry.type)) {
+            return Collections.emptyList();
+        }
+        return splitSelectorList(entry.expression);
+    }
+
+    /**
+     * Split a selector list on top-level commas, ignoring commas in quotes, brackets and parentheses
+     */
+    static List<String> splitSelectorList(String selector) {
+        List<String> branches = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                branches.add(selector.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        branches.add(selector.substring(start).trim());
+        return branches;
+    }
+
+    /**
+     * Get all registered locators by name
+     */
+    public static Map<String, By> getLocators() {
+        Map<String, By> locators = new LinkedHashMap<>();
+        synchronized (LOCATORS) {
+            LOCATORS.forEach((name, entry) -> locators.put(name, entry.locator));
+        }
+        return locators;
+    }
+
+    /**
+     * Describe registered locators as name, type, expression (what is sent to the browser)
+     * and source (as declared by the page object) for browser-side scripts
+     */
+    public static List<Map<String, Object>> describe() {
+        List<Map<String, Object>> locators = new ArrayList<>();
+        synchronized (LOCATORS) {
+            LOCATORS.forEach((name, entry) -> {
+                Map<String, Object> item = new HashMap<>();
+                item.put("name", name);
+                item.put("type", entry.type);
+                item.put("expression", entry.expression);
+                item.put("source", entry.source);
+                locators.add(item);
+            });
+        }
+        return locators;
+    }
+
+    /**
+     * Load page object classes so their locators register themselves
+     */
+    public static void load(Class<?>... pageClasses) {
+        for (Class<?> pageClass : pageClasses) {
+            try {
+                Class.forName(pageClass.getName(), true, pageClass.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Page class not loadable: " + pageClass.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Check syntax of every registered locator in one script call against the current document.
+     * Throws if any locator is invalid.
+     */
+    public static void validate(WebDriver driver) {
+        List<Map<String, Object>> payload = describe();
+        logger.info("Validating {} registered locators", payload.size());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> invalid = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(VALIDATE_SCRIPT, payload);
+        invalid.forEach((name, message) -> markInvalid(name, LOCATORS.get(name).locator, String.valueOf(message)));
+
+        List<String> failures = new ArrayList<>();
+        synchronized (LOCATORS) {
+            LOCATORS.forEach((name, entry) -> {
+                if (INVALID.containsKey(entry.locator)) {
+                    failures.add(name + " -> " + entry.expression);
+                }
+            });
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Invalid locators: " + failures);
+        }
+        logger.info("All {} locators are valid", payload.size());
+    }
+
+    private static final class Entry {
+        private final String type;
+        private final String expression;
+        private final String source;
+        private final By locator;
+
+        private Entry(String type, String expression, String source, By locator) {
+            this.type = type;
+            this.expression = expression;
+            this.source = source;
+            this.locator = locator;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.reddit.automation.framework.base;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Persisted statistics of which branch of a selector union matched, per locator and browser.
+ * BasePage tries the learned branch first and only falls back to the full union when it misses.
+ */
+public final class LocatorStats {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorStats.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final File STATS_FILE = new File(ConfigReader.getLocatorStatsFile());
+    private static final Map<String, Entry> ENTRIES = load();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("Locator learning report:\n{}", report());
+            save();
+        }));
+    }
+
+    private LocatorStats() {
+    }
+
+    /**
+     * Load statistics from previous runs
+     */
+    private static Map<String, Entry> load() {
+        if (!STATS_FILE.exists()) {
+            return new TreeMap<>();
+        }
+        try {
+            Map<String, Entry> entries = objectMapper.readValue(STATS_FILE, new TypeReference<TreeMap<String, Entry>>() { });
+            logger.info("Loaded locator statistics for {} locators from: {}", entries.size(), STATS_FILE);
+            return entries;
+        } catch (IOException e) {
+            logger.warn("Failed to read locator statistics, starting fresh: {}", STATS_FILE, e);
+            return new TreeMap<>();
+        }
+    }
+
+    /**
+     * Persist statistics for later runs
+     */
+    public static synchronized void save() {
+        try {
+            objectMapper.writeValue(STATS_FILE, ENTRIES);
+            logger.info("Locator statistics saved to: {}", STATS_FILE);
+        } catch (IOException e) {
+            logger.error("Failed to save locator statistics: {}", STATS_FILE, e);
+        }
+    }
+
+    /**
+     * Build statistics key for a locator in a browser
+     */
+    public static String key(String locatorName, String browserName) {
+        return locatorName + "@" + browserName;
+    }
+
+    /**
+     * Get learned branch for a key, or null if nothing was learned yet
+     */
+    public static synchronized String getLearned(String key) {
+        Entry entry = ENTRIES.get(key);
+        return entry == null ? null : entry.selector;
+    }
+
+    /**
+     * Record that the learned branch matched directly
+     */
+    public static synchronized void recordHit(String key, long nanos) {
+        Entry entry = ENTRIES.computeIfAbsent(key, k -> new Entry());
+        entry.hits++;
+        entry.hitNanos += nanos;
+    }
+
+    /**
+     * Record that the learned branch did not match even after the full wait: another branch matched or none did
+     */
+    public static synchronized void recordMiss(String key) {
+        ENTRIES.computeIfAbsent(key, k -> new Entry()).misses++;
+    }
+
+    /**
+     * Record the branch that matched when the full union was used
+     */
+    public static synchronized void recordFallback(String key, String selector, long nanos) {
+        Entry entry = ENTRIES.computeIfAbsent(key, k -> new Entry());
+        if (!selector.equals(entry.selector)) {
+            logger.info("Learned selector for {}: {}", key, selector);
+        }
+        entry.selector = selector;
+        entry.fallbacks++;
+        entry.fallbackNanos += nanos;
+    }
+
+    /**
+     * Report hits, misses and estimated time saved per locator
+     */
+    public static synchronized String report() {
+        StringBuilder report = new StringBuilder();
+        long totalSavedNanos = 0;
+        for (Map.Entry<String, Entry> item : ENTRIES.entrySet()) {
+            Entry entry = item.getValue();
+            long savedNanos = entry.savedNanos();
+            totalSavedNanos += savedNanos;
+            report.append(String.format("  %s -> %s: hits=%d, misses=%d, fallbacks=%d, saved=%dms%n",
+                    item.getKey(), entry.selector, entry.hits, entry.misses, entry.fallbacks, savedNanos / 1_000_000));
+        }
+        report.append(String.format("  total saved=%dms", totalSavedNanos / 1_000_000));
+        return report.toString();
+    }
+
+    /**
+     * Statistics of one locator in one browser
+     */
+    public static class Entry {
+        public String selector;
+        public long hits;
+        public long misses;
+        public long fallbacks;
+        public long hitNanos;
+        public long fallbackNanos;
+
+        /**
+         * Estimate time saved: hits would otherwise have cost an average full-union lookup
+         */
+        long savedNanos() {
+            if (fallbacks == 0 || hits == 0) {
+                return 0;
+            }
+            return Math.max(0, hits * (fallbackNanos / fallbacks) - hitNanos);
+        }
+    }
+}
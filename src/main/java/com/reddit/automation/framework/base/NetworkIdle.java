@@ -0,0 +1,225 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Network idle wait: no in-flight requests for a quiet period, ignoring long-polling URLs.
+ * Tracks requests through CDP network events; browsers without CDP fall back to
+ * watching the resource timing buffer settle.
+ */
+public class NetworkIdle {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkIdle.class);
+    private static final Map<WebDriver, NetworkIdle> INSTANCES = new HashMap<>();
+    private static final String RESOURCE_COUNT_SCRIPT =
+            "return document.readyState === 'complete' ? performance.getEntriesByType('resource').length : -1;";
+
+    private final WebDriver driver;
+    private final List<String> ignoredUrlParts;
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+    private final boolean cdpTracking;
+    private volatile long lastActivity = System.nanoTime();
+    private volatile int lastDocumentStatus;
+    private long lastResourceCount = -1;
+
+    private NetworkIdle(WebDriver driver) {
+        this.driver = driver;
+        this.ignoredUrlParts = Arrays.stream(ConfigReader.getNetworkIdleIgnoredUrls().split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toList());
+        this.cdpTracking = startCdpTracking();
+    }
+
+    /**
+     * Get network idle tracker for a driver, attaching it on first use.
+     * Attach right after session creation so requests of the first navigation are seen.
+     */
+    public static NetworkIdle of(WebDriver driver) {
+        synchronized (INSTANCES) {
+            return INSTANCES.computeIfAbsent(driver, NetworkIdle::new);
+        }
+    }
+
+    /**
+     * Get HTTP status of the last document response of a driver, or 0 if unknown or not tracked.
+     * Unlike of(driver), never attaches a tracker.
+     */
+    static int lastDocumentStatusOf(WebDriver driver) {
+        synchronized (INSTANCES) {
+            NetworkIdle tracker = INSTANCES.get(driver);
+            return tracker == null ? 0 : tracker.lastDocumentStatus;
+        }
+    }
+
+    /**
+     * Drop tracker for a driver that is being quit
+     */
+    public static void release(WebDriver driver) {
+        synchronized (INSTANCES) {
+            INSTANCES.remove(driver);
+        }
+    }
+
+    /**
+     * Subscribe to CDP network events
+     */
+    private boolean startCdpTracking() {
+        if (!(driver instanceof HasDevTools)) {
+            logger.info("CDP not available, network idle falls back to resource timing");
+            return false;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.addListener(new Event<>("Network.requestWillBeSent", NetworkIdle::readMap), this::onRequestStarted);
+            devTools.addListener(new Event<>("Network.loadingFinished", NetworkIdle::readMap), this::onRequestDone);
+            devTools.addListener(new Event<>("Network.loadingFailed", NetworkIdle::readMap), this::onRequestDone);
+            devTools.addListener(new Event<>("Network.responseReceived", NetworkIdle::readMap), this::onResponse);
+            logger.info("Network idle tracking attached via CDP");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to attach CDP network tracking, falling back to resource timing", e);
+            return false;
+        }
+    }
+
+    private static Map<String, Object> readMap(JsonInput input) {
+        return input.read(Json.MAP_TYPE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestStarted(Map<String, Object> params) {
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        String url = request != null ? String.valueOf(request.get("url")) : "";
+        if (isIgnored(url)) {
+            return;
+        }
+        if ("Document".equals(params.get("type"))) {
+            // Requests cancelled by unloading the previous document never report loadingFinished or loadingFailed
+            inFlight.clear();
+        }
+        inFlight.put(String.valueOf(params.get("requestId")), url);
+        lastActivity = System.nanoTime();
+    }
+
+    private void onRequestDone(Map<String, Object> params) {
+        if (inFlight.remove(String.valueOf(params.get("requestId"))) != null) {
+            lastActivity = System.nanoTime();
+        }
+    }
+
+    /**
+     * Remember document status for navigation feedback; report throttled subresources to the rate limiter
+     */
+    @SuppressWarnings("unchecked")
+    private void onResponse(Map<String, Object> params) {
+        Map<String, Object> response = (Map<String, Object>) params.get("response");
+        if (response == null || !(response.get("status") instanceof Number)) {
+            return;
+        }
+        int status = ((Number) response.get("status")).intValue();
+        if ("Document".equals(params.get("type"))) {
+            lastDocumentStatus = status;
+        } else if (status == 429) {
+            RateLimiter limiter = RateLimiter.forUrl(String.valueOf(response.get("url")));
+            if (limiter != null) {
+                limiter.onThrottled();
+            }
+        }
+    }
+
+    private boolean isIgnored(String url) {
+        for (String part : ignoredUrlParts) {
+            if (url.contains(part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the network has been quiet for the given period
+     */
+    public boolean isIdle(Duration quietPeriod) {
+        if (!cdpTracking) {
+            long count = ((Number) ((JavascriptExecutor) driver).executeScript(RESOURCE_COUNT_SCRIPT)).longValue();
+            if (count < 0 || count != lastResourceCount) {
+                lastResourceCount = count;
+                lastActivity = System.nanoTime();
+                return false;
+            }
+        } else if (!inFlight.isEmpty()) {
+            return false;
+        }
+        return System.nanoTime() - lastActivity >= quietPeriod.toNanos();
+    }
+
+    /**
+     * Get HTTP status of the last document response, or 0 if unknown (no CDP, or cleared since)
+     */
+    public int getLastDocumentStatus() {
+        return lastDocumentStatus;
+    }
+
+    /**
+     * Forget the last document status, before a navigation
+     */
+    public void clearDocumentStatus() {
+        lastDocumentStatus = 0;
+    }
+
+    /**
+     * Get number of tracked requests still in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Wait for network idle using configured quiet period and page load timeout, capped to the time budget
+     */
+    public boolean waitForIdle() {
+        return waitForIdle(Duration.ofMillis(ConfigReader.getNetworkIdleQuietMillis()),
+                Deadline.cap(Duration.ofSeconds(ConfigReader.getPageLoadTimeout())));
+    }
+
+    /**
+     * Wait until no requests are in flight for the quiet period
+     */
+    public boolean waitForIdle(Duration quietPeriod, Duration timeout) {
+        logger.info("Waiting for network idle ({}ms quiet)", quietPeriod.toMillis());
+        try {
+            new FluentWait<>(this)
+                    .withTimeout(timeout)
+                    .pollingEvery(Duration.ofMillis(50))
+                    .until(idle -> idle.isIdle(quietPeriod));
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Network not idle after {}s, still in flight: {}", timeout.getSeconds(), inFlight.values());
+            return false;
+        }
+    }
+}
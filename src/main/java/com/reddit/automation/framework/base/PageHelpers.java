@@ -0,0 +1,112 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Installs the page helper runtime (js/page-helpers.js) into the browser and calls its functions
+ */
+public class PageHelpers {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageHelpers.class);
+    private static final String RESOURCE = "/js/page-helpers.js";
+    private static final String MISSING = "__redditHelpersMissing__";
+    private static final String CALL_SCRIPT =
+            "var h = window.__redditHelpers; if (!h) { return '" + MISSING + "'; }" +
+            "return h[arguments[0]].apply(null, Array.prototype.slice.call(arguments, 1));";
+    private static final String SOURCE = loadScript(RESOURCE);
+
+    private PageHelpers() {
+    }
+
+    /**
+     * Load a browser script from the classpath
+     */
+    static String loadScript(String resource) {
+        try (InputStream input = PageHelpers.class.getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Browser script not found: " + resource);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read browser script: " + resource, e);
+        }
+    }
+
+    /**
+     * Register a script to run before page scripts in every new document.
+     * Returns false when the browser has no CDP support or registration failed.
+     */
+    static boolean registerOnNewDocument(WebDriver driver, String source) {
+        return addScriptOnNewDocument(driver, source) != null;
+    }
+
+    /**
+     * Register a script to run before page scripts in every new document, returning the identifier
+     * to remove it with, or null when the browser has no CDP support or registration failed
+     */
+    static String addScriptOnNewDocument(WebDriver driver, String source) {
+        if (!(driver instanceof HasCdp)) {
+            return null;
+        }
+        try {
+            Map<String, Object> result = ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", source));
+            return String.valueOf(result.get("identifier"));
+        } catch (Exception e) {
+            logger.warn("CDP script registration failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Stop running a script registered with addScriptOnNewDocument in new documents
+     */
+    static void removeScriptOnNewDocument(WebDriver driver, String identifier) {
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("identifier", identifier));
+        } catch (Exception e) {
+            logger.warn("CDP script removal failed", e);
+        }
+    }
+
+    /**
+     * Register the helpers for every new document of the session.
+     * Chromium browsers get them through CDP; others are installed lazily on first call.
+     */
+    public static void install(WebDriver driver) {
+        if (registerOnNewDocument(driver, SOURCE)) {
+            logger.info("Page helpers registered for new documents via CDP");
+        } else {
+            logger.info("Page helpers will be installed lazily per document");
+        }
+    }
+
+    /**
+     * Call a helper function, installing the runtime first if the current document lacks it
+     */
+    public static Object call(WebDriver driver, String function, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] callArgs = new Object[args.length + 1];
+        callArgs[0] = function;
+        System.arraycopy(args, 0, callArgs, 1, args.length);
+
+        Object result = js.executeScript(CALL_SCRIPT, callArgs);
+        if (MISSING.equals(result)) {
+            logger.debug("Installing page helpers into current document");
+            js.executeScript(SOURCE);
+            result = js.executeScript(CALL_SCRIPT, callArgs);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package com.reddit.automation.framework.base;
+
+/**
+ * Outcome of a non-throwing element probe
+ */
+public enum ProbeResult {
+    PRESENT_VISIBLE,
+    PRESENT_HIDDEN,
+    ABSENT;
+
+    /**
+     * Check if the element exists in the DOM, visible or not
+     */
+    public boolean isPresent() {
+        return this != ABSENT;
+    }
+
+    /**
+     * Check if the element exists and is visible
+     */
+    public boolean isVisible() {
+        return this == PRESENT_VISIBLE;
+    }
+
+    /**
+     * Map state string returned by the page helper probe function
+     */
+    static ProbeResult fromState(Object state) {
+        if ("visible".equals(state)) {
+            return PRESENT_VISIBLE;
+        }
+        if ("hidden".equals(state)) {
+            return PRESENT_HIDDEN;
+        }
+        return ABSENT;
+    }
+}
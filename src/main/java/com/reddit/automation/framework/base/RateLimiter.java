@@ -0,0 +1,166 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket per host shared by all sessions of the JVM, limiting navigations and form submits.
+ * The rate adapts: halved on 429 responses, reduced on slow responses and raised again step by step
+ * on healthy ones, so parallel sessions settle at the highest rate the target tolerates.
+ */
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+    private static final Map<String, RateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> LIMITERS.values()
+                .forEach(limiter -> logger.info("Rate limiter {}", limiter))));
+    }
+
+    private final String host;
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private double rate;
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+    private long throttledCount;
+    private long slowCount;
+    private long waitedNanos;
+
+    RateLimiter(String host, double maxRate, double minRate, double burst) {
+        this.host = host;
+        this.maxRate = maxRate;
+        this.minRate = minRate;
+        this.burst = burst;
+        this.rate = maxRate;
+        this.tokens = burst;
+    }
+
+    /**
+     * Get limiter of a host
+     */
+    public static RateLimiter forHost(String host) {
+        return LIMITERS.computeIfAbsent(host, h -> new RateLimiter(h, ConfigReader.getRateLimitPerSecond(),
+                ConfigReader.getRateLimitMinPerSecond(), ConfigReader.getRateLimitBurst()));
+    }
+
+    /**
+     * Get limiter of the host of a URL, or null if the URL has no host (about:blank, file:)
+     */
+    public static RateLimiter forUrl(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? null : forHost(host);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Take a token, waiting for one if the bucket is empty.
+     * Throws TimeoutException if the wait would exceed the remaining time budget.
+     */
+    public void acquire() {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            // Tokens below zero are reservations: this caller waits until its token has accrued
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * 1_000_000_000L);
+            waitedNanos += waitNanos;
+        }
+        if (waitNanos == 0) {
+            return;
+        }
+        Duration wait = Duration.ofNanos(waitNanos);
+        if (Deadline.cap(wait).compareTo(wait) < 0) {
+            synchronized (this) {
+                tokens += 1;
+                waitedNanos -= waitNanos;
+            }
+            throw new TimeoutException("Rate limit wait of " + wait.toMillis() + "ms for " + host + " exceeds time budget");
+        }
+        logger.debug("Rate limited on {}: waiting {}ms", host, wait.toMillis());
+        try {
+            Thread.sleep(wait.toMillis(), (int) (waitNanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rate limited", e);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * rate / 1_000_000_000L);
+        refilledAt = now;
+    }
+
+    /**
+     * Target answered 429: halve the rate
+     */
+    public synchronized void onThrottled() {
+        refill();
+        throttledCount++;
+        rate = Math.max(minRate, rate / 2);
+        logger.warn("Throttled by {}, rate lowered to {}/s", host, String.format("%.2f", rate));
+    }
+
+    /**
+     * Target answered slowly: lower the rate by a quarter
+     */
+    public synchronized void onSlow(Duration elapsed) {
+        refill();
+        slowCount++;
+        rate = Math.max(minRate, rate * 0.75);
+        logger.info("Slow response from {} ({}ms), rate lowered to {}/s", host, elapsed.toMillis(), String.format("%.2f", rate));
+    }
+
+    /**
+     * Target answered normally: raise the rate by a tenth of the maximum
+     */
+    public synchronized void onSuccess() {
+        if (rate < maxRate) {
+            refill();
+            rate = Math.min(maxRate, rate + maxRate / 10);
+        }
+    }
+
+    /**
+     * Record outcome of a navigation from its response status (0 if unknown) and duration
+     */
+    public void record(int status, Duration elapsed) {
+        if (status == 429) {
+            onThrottled();
+        } else if (elapsed.toMillis() > ConfigReader.getRateLimitSlowMillis()) {
+            onSlow(elapsed);
+        } else {
+            onSuccess();
+        }
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * Get total time callers were made to wait, budget-exceeded waits excluded
+     */
+    synchronized Duration getWaited() {
+        return Duration.ofNanos(waitedNanos);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s: rate=%.2f/s, throttled=%d, slow=%d, waited=%dms",
+                host, rate, throttledCount, slowCount, waitedNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,151 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one page load and one DOM snapshot between consecutive read-only scenarios of a session.
+ * A scenario tagged @readonly promises not to change the page, so the next read-only scenario
+ * reuses the loaded page instead of restoring its Background, and element checks are answered
+ * from a snapshot of all registered locators taken in a single browser call.
+ */
+public final class ReadOnlySnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadOnlySnapshot.class);
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+    private static final Map<WebDriver, String> PRISTINE = new WeakHashMap<>();
+    private static final Map<WebDriver, Map<By, Object[]>> SNAPSHOTS = new WeakHashMap<>();
+
+    private ReadOnlySnapshot() {
+    }
+
+    /**
+     * Start a scenario on the current thread. Any scenario that is not read-only may change
+     * the page, so the session's loaded page and snapshot are no longer shared.
+     */
+    public static void begin(boolean readOnly) {
+        ACTIVE.set(readOnly);
+        WebDriver driver = DriverManager.getDriver();
+        if (!readOnly && driver != null) {
+            forget(driver);
+        }
+    }
+
+    /**
+     * End the current thread's scenario
+     */
+    public static void end() {
+        ACTIVE.remove();
+    }
+
+    /**
+     * Check if the current thread runs a read-only scenario
+     */
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Check if driver still shows the untouched page of checkpoint key,
+     * loaded by an earlier read-only scenario
+     */
+    static boolean isPristine(WebDriver driver, String key) {
+        if (!isActive()) {
+            return false;
+        }
+        synchronized (PRISTINE) {
+            return key.equals(PRISTINE.get(driver));
+        }
+    }
+
+    /**
+     * Record that driver has just loaded the page of checkpoint key.
+     * It stays shareable only while read-only scenarios use it.
+     */
+    static void loaded(WebDriver driver, String key) {
+        forget(driver);
+        if (isActive()) {
+            synchronized (PRISTINE) {
+                PRISTINE.put(driver, key);
+            }
+        }
+    }
+
+    private static void forget(WebDriver driver) {
+        synchronized (PRISTINE) {
+            PRISTINE.remove(driver);
+            SNAPSHOTS.remove(driver);
+        }
+    }
+
+    /**
+     * Get state of locator from the shared snapshot, or null if no read-only scenario is running
+     * or the locator cannot be snapshotted
+     */
+    static ProbeResult probe(WebDriver driver, By locator) {
+        Object[] state = lookup(driver, locator);
+        return state == null ? null : ProbeResult.fromState(state[0]);
+    }
+
+    /**
+     * Get match count of locator from the shared snapshot, or null if no read-only scenario
+     * is running or the locator cannot be snapshotted
+     */
+    static Integer count(WebDriver driver, By locator) {
+        Object[] state = lookup(driver, locator);
+        return state == null ? null : ((Number) state[1]).intValue();
+    }
+
+    private static Object[] lookup(WebDriver driver, By locator) {
+        if (!isActive() || driver == null) {
+            return null;
+        }
+        Map<By, Object[]> snapshot;
+        synchronized (PRISTINE) {
+            snapshot = SNAPSHOTS.get(driver);
+        }
+        if (snapshot == null) {
+            snapshot = capture(driver);
+            synchronized (PRISTINE) {
+                SNAPSHOTS.put(driver, snapshot);
+            }
+        }
+        return snapshot.get(locator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<By, Object[]> capture(WebDriver driver) {
+        List<By> locators = new ArrayList<>();
+        List<Map<String, Object>> alternatives = new ArrayList<>();
+        for (By locator : LocatorRegistry.getLocators().values()) {
+            try {
+                alternatives.add(BasePage.toAlternative(locator));
+                locators.add(locator);
+            } catch (IllegalArgumentException e) {
+                // Composite locators are checked live
+            }
+        }
+        Map<By, Object[]> snapshot = new HashMap<>();
+        long start = System.nanoTime();
+        try {
+            List<List<Object>> states = (List<List<Object>>) PageHelpers.call(driver, "snapshot", alternatives);
+            for (int i = 0; i < locators.size(); i++) {
+                snapshot.put(locators.get(i), states.get(i).toArray());
+            }
+            logger.info("Captured read-only snapshot of {} locators in {}ms",
+                    snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to capture read-only snapshot, checking elements live", e);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,51 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Disables CSS animations, transitions and smooth scrolling (js/reduced-motion.js) in the browser under test
+ */
+public class ReducedMotion {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReducedMotion.class);
+    private static final String SOURCE = PageHelpers.loadScript("/js/reduced-motion.js");
+    private static final Set<WebDriver> REGISTERED = Collections.synchronizedSet(new HashSet<>());
+
+    private ReducedMotion() {
+    }
+
+    /**
+     * Register the stylesheet for every new document of the session
+     */
+    public static void install(WebDriver driver) {
+        if (PageHelpers.registerOnNewDocument(driver, SOURCE)) {
+            REGISTERED.add(driver);
+            logger.info("Animations disabled for new documents via CDP");
+        } else {
+            logger.info("Animations will be disabled after each navigation");
+        }
+    }
+
+    /**
+     * Apply to the current document when the script could not be registered for new documents
+     */
+    public static void applyIfNotRegistered(WebDriver driver) {
+        if (!REGISTERED.contains(driver)) {
+            ((JavascriptExecutor) driver).executeScript(SOURCE);
+        }
+    }
+
+    /**
+     * Forget a driver that is being quit
+     */
+    public static void release(WebDriver driver) {
+        REGISTERED.remove(driver);
+    }
+}
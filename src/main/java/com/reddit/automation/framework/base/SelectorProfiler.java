@@ -0,0 +1,190 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.XPathToCss;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks registered locators in the browser with performance.now() and ranks them by cost.
+ * XPath locators with a CSS equivalent are measured side by side with their rewrite.
+ */
+public class SelectorProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SelectorProfiler.class);
+    private static final String SNAPSHOT_SCRIPT =
+            "var copy = document.documentElement.cloneNode(true);" +
+            "copy.querySelectorAll('script').forEach(function (s) { s.remove(); });" +
+            "return '<!DOCTYPE html>\\n' + copy.outerHTML;";
+    private static final String PROFILE_SCRIPT =
+            "var iterations = arguments[1];" +
+            "return arguments[0].map(function (l) {" +
+            "  var run = l.type === 'xpath'" +
+            "    ? function () { return document.evaluate(l.expression, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength; }" +
+            "    : function () { return document.querySelectorAll(l.expression).length; };" +
+            "  var result = { name: l.name, matches: 0, micros: -1 };" +
+            "  try {" +
+            "    result.matches = run();" +
+            "    var start = performance.now();" +
+            "    for (var i = 0; i < iterations; i++) { run(); }" +
+            "    result.micros = (performance.now() - start) * 1000 / iterations;" +
+            "  } catch (e) { result.error = e.message; }" +
+            "  return result;" +
+            "});";
+
+    private final WebDriver driver;
+
+    public SelectorProfiler(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Save the page at url, without scripts, as a fixture for repeatable profiling
+     */
+    public void captureFixture(String url, Path fixture) throws IOException {
+        logger.info("Capturing selector profile fixture from: {}", url);
+        driver.get(url);
+        NetworkIdle.of(driver).waitForIdle();
+        String html = (String) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+        Files.createDirectories(fixture.toAbsolutePath().getParent());
+        Files.write(fixture, html.getBytes(StandardCharsets.UTF_8));
+        logger.info("Fixture saved to: {}", fixture);
+    }
+
+    /**
+     * Load fixture and profile every registered locator
+     */
+    public List<Result> profile(Path fixture, int iterations) {
+        driver.get(fixture.toAbsolutePath().toUri().toString());
+        return profile(iterations);
+    }
+
+    /**
+     * Profile every registered locator against the current document
+     */
+    @SuppressWarnings("unchecked")
+    public List<Result> profile(int iterations) {
+        List<Map<String, Object>> runs = new ArrayList<>();
+        Map<String, Result> results = new HashMap<>();
+        for (Map<String, Object> locator : LocatorRegistry.describe()) {
+            String name = (String) locator.get("name");
+            String type = (String) locator.get("type");
+            String expression = (String) locator.get("expression");
+            String source = (String) locator.get("source");
+            Result result = new Result(name, type, expression);
+            results.put(name, result);
+            runs.add(run(name, type, expression));
+
+            if (!source.equals(expression)) {
+                // Rewritten at registration: measure the declared XPath for comparison
+                result.alternative = source;
+                result.alternativeType = "xpath";
+                runs.add(run(name + "#alt", "xpath", source));
+            } else if ("xpath".equals(type)) {
+                String css = XPathToCss.translate(source);
+                if (css != null) {
+                    result.alternative = css;
+                    result.alternativeType = "css";
+                    runs.add(run(name + "#alt", "css", css));
+                }
+            }
+        }
+
+        logger.info("Profiling {} selectors, {} iterations each", runs.size(), iterations);
+        List<Map<String, Object>> measured = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(PROFILE_SCRIPT, runs, iterations);
+        for (Map<String, Object> item : measured) {
+            String name = (String) item.get("name");
+            boolean alternative = name.endsWith("#alt");
+            Result result = results.get(alternative ? name.substring(0, name.length() - 4) : name);
+            double micros = ((Number) item.get("micros")).doubleValue();
+            long matches = ((Number) item.get("matches")).longValue();
+            if (alternative) {
+                result.alternativeMicros = micros;
+                result.alternativeMatches = matches;
+            } else {
+                result.micros = micros;
+                result.matches = matches;
+                result.error = (String) item.get("error");
+            }
+        }
+
+        List<Result> ranked = new ArrayList<>(results.values());
+        ranked.sort(Comparator.comparingDouble((Result r) -> r.micros).reversed());
+        return ranked;
+    }
+
+    private static Map<String, Object> run(String name, String type, String expression) {
+        Map<String, Object> run = new HashMap<>();
+        run.put("name", name);
+        run.put("type", type);
+        run.put("expression", expression);
+        return run;
+    }
+
+    /**
+     * Format ranked results, most expensive first
+     */
+    public static String report(List<Result> ranked) {
+        StringBuilder report = new StringBuilder("Selector cost report (most expensive first)\n");
+        int rank = 1;
+        for (Result result : ranked) {
+            report.append(String.format("%3d. %-45s %8.1fus  matches=%-4d %s: %s%n",
+                    rank++, result.name, result.micros, result.matches, result.type, result.expression));
+            if (result.error != null) {
+                report.append("       ERROR: ").append(result.error).append('\n');
+            }
+            if (result.alternative != null) {
+                report.append(String.format("       %s %8.1fus  matches=%-4d%s: %s%n",
+                        "css".equals(result.alternativeType) ? "suggested css" : "declared xpath",
+                        result.alternativeMicros, result.alternativeMatches,
+                        result.alternativeMatches == result.matches ? "" : " (MATCH COUNT DIFFERS)",
+                        result.alternative));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Cost of one locator and, if any, of its XPath/CSS counterpart
+     */
+    public static class Result {
+        private final String name;
+        private final String type;
+        private final String expression;
+        private double micros = -1;
+        private long matches;
+        private String error;
+        private String alternative;
+        private String alternativeType;
+        private double alternativeMicros = -1;
+        private long alternativeMatches;
+
+        Result(String name, String type, String expression) {
+            this.name = name;
+            this.type = type;
+            this.expression = expression;
+        }
+
+        public String getName() { return name; }
+        public String getType() { return type; }
+        public String getExpression() { return expression; }
+        public double getMicros() { return micros; }
+        public long getMatches() { return matches; }
+        public String getError() { return error; }
+        public String getAlternative() { return alternative; }
+        public double getAlternativeMicros() { return alternativeMicros; }
+        public long getAlternativeMatches() { return alternativeMatches; }
+    }
+}
@@ -0,0 +1,115 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Cache of authenticated session states, in memory and on disk, so each user logs in through
+ * the UI once per run (or less, while the saved state is fresh) and later sessions restore it.
+ */
+public final class SessionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionCache.class);
+    private static final Map<String, SessionState> STATES = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+    }
+
+    /**
+     * Restore the cached session of key into driver, or log in and cache it.
+     * isValid navigates as needed and checks the session is logged in; login performs the UI login.
+     * Concurrent callers for the same key wait for a single login instead of each doing one.
+     */
+    public static void restoreOrLogin(WebDriver driver, String key, Predicate<WebDriver> isValid, Consumer<WebDriver> login) {
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            SessionState cached = get(key);
+            if (cached != null) {
+                long start = System.nanoTime();
+                cached.restore(driver);
+                boolean valid;
+                try {
+                    valid = isValid.test(driver);
+                } finally {
+                    cached.finishRestore(driver);
+                }
+                if (valid) {
+                    logger.info("Restored cached session for {} in {}ms", key, (System.nanoTime() - start) / 1_000_000);
+                    return;
+                }
+                logger.info("Cached session for {} is no longer valid, logging in again", key);
+                invalidate(key);
+                driver.manage().deleteAllCookies();
+            }
+
+            login.accept(driver);
+            if (!isValid.test(driver)) {
+                throw new IllegalStateException("Login did not produce a valid session for: " + key);
+            }
+            put(key, SessionState.capture(driver));
+        }
+    }
+
+    /**
+     * Get fresh cached state of key, from memory or disk, or null
+     */
+    public static SessionState get(String key) {
+        SessionState state = STATES.get(key);
+        File file = fileOf(key);
+        if (state == null && file.exists()) {
+            try {
+                state = SessionState.load(file);
+                STATES.put(key, state);
+            } catch (IOException e) {
+                logger.warn("Failed to read cached session: {}", file, e);
+            }
+        }
+        if (state == null) {
+            return null;
+        }
+        long ageMinutes = (System.currentTimeMillis() - state.capturedAt) / 60_000;
+        if (ageMinutes >= ConfigReader.getSessionCacheTtlMinutes() || state.hasExpiredCookies()) {
+            logger.info("Cached session for {} expired ({} minutes old)", key, ageMinutes);
+            invalidate(key);
+            return null;
+        }
+        return state;
+    }
+
+    /**
+     * Cache state of key in memory and on disk
+     */
+    public static void put(String key, SessionState state) {
+        STATES.put(key, state);
+        File file = fileOf(key);
+        try {
+            state.save(file);
+            logger.info("Cached session for {} saved to: {}", key, file);
+        } catch (IOException e) {
+            logger.warn("Failed to save cached session: {}", file, e);
+        }
+    }
+
+    /**
+     * Drop cached state of key
+     */
+    public static void invalidate(String key) {
+        STATES.remove(key);
+        if (fileOf(key).delete()) {
+            logger.info("Deleted cached session for {}", key);
+        }
+    }
+
+    private static File fileOf(String key) {
+        return new File(ConfigReader.getSessionCacheDir(), key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+}
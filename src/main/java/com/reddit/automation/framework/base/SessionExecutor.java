@@ -0,0 +1,79 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs commands of one session in submission order on a small worker pool shared by all sessions.
+ * A session's commands never overlap (WebDriver is not thread-safe), while commands of different
+ * sessions run side by side, so one orchestrating thread can drive many browsers through futures
+ * with only async.pool.size threads in total.
+ */
+public final class SessionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionExecutor.class);
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(ConfigReader.getAsyncPoolSize(), r -> {
+        Thread thread = new Thread(r, "session-executor-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Map<WebDriver, SessionExecutor> EXECUTORS = new WeakHashMap<>();
+
+    private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+
+    private SessionExecutor() {
+    }
+
+    /**
+     * Get executor of a session
+     */
+    public static SessionExecutor of(WebDriver driver) {
+        synchronized (EXECUTORS) {
+            return EXECUTORS.computeIfAbsent(driver, d -> new SessionExecutor());
+        }
+    }
+
+    /**
+     * Queue a command after the session's previously submitted ones, whether they failed or not.
+     * The command runs within what is left of the caller's time budget at submission.
+     */
+    public synchronized <T> CompletableFuture<T> submit(String name, Supplier<T> command) {
+        Deadline caller = Deadline.current();
+        long expiresAt = caller == null ? 0 : System.nanoTime() + caller.remaining().toNanos();
+        CompletableFuture<T> result = tail.handle((ignored, failure) -> null)
+                .thenApplyAsync(ignored -> caller == null ? command.get() : runWithin(name, expiresAt, command), POOL);
+        result.whenComplete((value, failure) -> {
+            if (failure != null) {
+                logger.debug("Async command {} failed: {}", name, failure.getMessage());
+            }
+        });
+        tail = result;
+        return result;
+    }
+
+    private static <T> T runWithin(String name, long expiresAt, Supplier<T> command) {
+        long remaining = expiresAt - System.nanoTime();
+        if (remaining <= 0) {
+            throw new TimeoutException("Time budget exhausted before async command: " + name);
+        }
+        Deadline deadline = Deadline.start(name, Duration.ofNanos(remaining));
+        try {
+            return command.get();
+        } finally {
+            deadline.close();
+        }
+    }
+}
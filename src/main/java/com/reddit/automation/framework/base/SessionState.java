@@ -0,0 +1,207 @@
+package com.reddit.automation.framework.base;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of browser session state: URL, cookies, localStorage and sessionStorage of one origin.
+ * Restoring into a fresh session makes it continue as the captured one, e.g. already logged in.
+ */
+public class SessionState {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionState.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String CAPTURE_STORAGE_SCRIPT =
+            "return { local: Object.assign({}, localStorage), session: Object.assign({}, sessionStorage) };";
+    private static final String APPLY_STORAGE =
+            "Object.keys(state.local).forEach(function (k) { localStorage.setItem(k, state.local[k]); });" +
+            "Object.keys(state.session).forEach(function (k) { sessionStorage.setItem(k, state.session[k]); });";
+    private static final String RESTORE_STORAGE_SCRIPT = "var state = arguments[0];" + APPLY_STORAGE;
+    private static final String RESTORED_MARKER = "__redditSessionRestored";
+
+    public String url;
+    public long capturedAt;
+    public List<Map<String, Object>> cookies = new ArrayList<>();
+    public Map<String, String> localStorage = new LinkedHashMap<>();
+    public Map<String, String> sessionStorage = new LinkedHashMap<>();
+    @JsonIgnore
+    private final Map<WebDriver, String> restoreScripts = new ConcurrentHashMap<>();
+
+    /**
+     * Capture state of the current page's origin
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionState capture(WebDriver driver) {
+        SessionState state = new SessionState();
+        state.url = driver.getCurrentUrl();
+        state.capturedAt = System.currentTimeMillis();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("name", cookie.getName());
+            item.put("value", cookie.getValue());
+            item.put("domain", cookie.getDomain());
+            item.put("path", cookie.getPath());
+            item.put("secure", cookie.isSecure());
+            item.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getExpiry() != null) {
+                item.put("expiry", cookie.getExpiry().getTime());
+            }
+            if (cookie.getSameSite() != null) {
+                item.put("sameSite", cookie.getSameSite());
+            }
+            state.cookies.add(item);
+        }
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_STORAGE_SCRIPT);
+        ((Map<String, Object>) storage.get("local")).forEach((k, v) -> state.localStorage.put(k, String.valueOf(v)));
+        ((Map<String, Object>) storage.get("session")).forEach((k, v) -> state.sessionStorage.put(k, String.valueOf(v)));
+        logger.info("Captured session state of {}: {} cookies, {} localStorage and {} sessionStorage items",
+                state.url, state.cookies.size(), state.localStorage.size(), state.sessionStorage.size());
+        return state;
+    }
+
+    /**
+     * Restore state into a session before its next navigation to the origin.
+     * Chromium sessions get cookies via CDP and storage via a script that runs before page scripts;
+     * other browsers first load a lightweight same-origin page to set them directly.
+     * Call finishRestore once that navigation has loaded.
+     */
+    public void restore(WebDriver driver) {
+        String origin = getOrigin();
+        if (driver instanceof HasCdp && restoreWithCdp((HasCdp) driver, origin)) {
+            logger.info("Session state restored for {} via CDP", origin);
+            return;
+        }
+        driver.get(origin + "/robots.txt");
+        for (Map<String, Object> item : cookies) {
+            driver.manage().addCookie(toCookie(item));
+        }
+        ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_SCRIPT, storageMap());
+        logger.info("Session state restored for {}", origin);
+    }
+
+    /**
+     * Restore state directly into the current page, e.g. to roll a session back to a checkpoint
+     */
+    public void restoreInPlace(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        for (Map<String, Object> item : cookies) {
+            driver.manage().addCookie(toCookie(item));
+        }
+        ((JavascriptExecutor) driver).executeScript(
+                "localStorage.clear(); sessionStorage.clear();" + RESTORE_STORAGE_SCRIPT, storageMap());
+    }
+
+    private boolean restoreWithCdp(HasCdp cdp, String origin) {
+        try {
+            for (Map<String, Object> item : cookies) {
+                Map<String, Object> cookie = new HashMap<>(item);
+                Object expiry = cookie.remove("expiry");
+                if (expiry != null) {
+                    cookie.put("expires", ((Number) expiry).longValue() / 1000.0);
+                }
+                if (cookie.get("domain") == null) {
+                    cookie.put("url", origin);
+                }
+                cookie.values().removeIf(value -> value == null);
+                cdp.executeCdpCommand("Network.setCookie", cookie);
+            }
+            // Runs once per tab before page scripts, so the app starts with the restored storage
+            String script = "(function () {" +
+                    "if (location.origin !== " + objectMapper.writeValueAsString(origin) +
+                    " || sessionStorage.getItem('" + RESTORED_MARKER + "')) { return; }" +
+                    "var state = " + objectMapper.writeValueAsString(storageMap()) + ";" +
+                    APPLY_STORAGE +
+                    "sessionStorage.setItem('" + RESTORED_MARKER + "', '1'); })();";
+            String identifier = PageHelpers.addScriptOnNewDocument((WebDriver) cdp, script);
+            if (identifier == null) {
+                return false;
+            }
+            restoreScripts.put((WebDriver) cdp, identifier);
+            return true;
+        } catch (Exception e) {
+            logger.warn("CDP session restore failed, falling back to same-origin page", e);
+            return false;
+        }
+    }
+
+    /**
+     * Stop applying the restored storage to new documents of driver, once the first one has loaded,
+     * so later navigations and in-place restores start from the page's own storage
+     */
+    public void finishRestore(WebDriver driver) {
+        String identifier = restoreScripts.remove(driver);
+        if (identifier != null) {
+            PageHelpers.removeScriptOnNewDocument(driver, identifier);
+        }
+    }
+
+    private Map<String, Object> storageMap() {
+        Map<String, Object> storage = new HashMap<>();
+        storage.put("local", localStorage);
+        storage.put("session", sessionStorage);
+        return storage;
+    }
+
+    private static Cookie toCookie(Map<String, Object> item) {
+        Object expiry = item.get("expiry");
+        return new Cookie.Builder((String) item.get("name"), (String) item.get("value"))
+                .domain((String) item.get("domain"))
+                .path((String) item.get("path"))
+                .isSecure(Boolean.TRUE.equals(item.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(item.get("httpOnly")))
+                .expiresOn(expiry == null ? null : new Date(((Number) expiry).longValue()))
+                .sameSite((String) item.get("sameSite"))
+                .build();
+    }
+
+    /**
+     * Get scheme, host and port of the captured URL
+     */
+    @JsonIgnore
+    public String getOrigin() {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    /**
+     * Check if any captured cookie has expired
+     */
+    public boolean hasExpiredCookies() {
+        long now = System.currentTimeMillis();
+        return cookies.stream().anyMatch(c -> c.get("expiry") != null && ((Number) c.get("expiry")).longValue() < now);
+    }
+
+    /**
+     * Save as JSON
+     */
+    public void save(File file) throws IOException {
+        if (file.getAbsoluteFile().getParentFile() != null) {
+            file.getAbsoluteFile().getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, this);
+    }
+
+    /**
+     * Load from JSON
+     */
+    public static SessionState load(File file) throws IOException {
+        return objectMapper.readValue(file, SessionState.class);
+    }
+}
@@ -0,0 +1,241 @@
+package com.reddit.automation.framework.base;
+
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fans independent page checks out across tabs of one session. Pages load in all tabs at once
+ * while a single thread owns the driver, switching to whichever tab has finished loading, so
+ * N checks cost about one page load per tab instead of N sequential loads or N browsers.
+ * Waiting for client-rendered content is part of a tab's readiness and is polled without waiting,
+ * so a tab whose content never renders holds only that tab, never the owner thread.
+ */
+public class TabPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TabPool.class);
+    // The marker lives on the old document only, so its absence means the new page has replaced it
+    private static final String NAVIGATE_SCRIPT = "window.__redditTabPending = true; location.href = arguments[0];";
+    private static final String READY_SCRIPT = "return !window.__redditTabPending && document.readyState === 'complete';";
+
+    private final WebDriver driver;
+    private final String originalHandle;
+    private final List<String> handles = new ArrayList<>();
+    private final ExecutorService owner;
+
+    /**
+     * Open size tabs next to the session's current one
+     */
+    public TabPool(WebDriver driver, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Tab pool needs at least one tab: " + size);
+        }
+        this.driver = driver;
+        this.originalHandle = driver.getWindowHandle();
+        for (int i = 0; i < size; i++) {
+            handles.add(driver.switchTo().newWindow(WindowType.TAB).getWindowHandle());
+        }
+        driver.switchTo().window(originalHandle);
+        this.owner = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "tab-pool-" + originalHandle);
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Opened tab pool of {} tabs", size);
+    }
+
+    /**
+     * Open a pool of tab.pool.size tabs
+     */
+    public TabPool(WebDriver driver) {
+        this(driver, ConfigReader.getTabPoolSize());
+    }
+
+    /**
+     * Load the URL of every item in a free tab and run check on it once loaded.
+     * Returns at once with one future per item, in item order, each completing as its tab finishes.
+     * The driver belongs to the pool until all futures are done.
+     */
+    public <T, R> List<CompletableFuture<R>> submit(List<T> items, Function<T, String> urlOf, BiFunction<WebDriver, T, R> check) {
+        return submit(items, urlOf, tab -> true, check);
+    }
+
+    /**
+     * Like submit, but a loaded tab is only checked once rendered holds, or after the configured
+     * timeout if it never does. rendered must answer at once without waiting.
+     */
+    public <T, R> List<CompletableFuture<R>> submit(List<T> items, Function<T, String> urlOf, Predicate<WebDriver> rendered,
+                                                    BiFunction<WebDriver, T, R> check) {
+        List<CompletableFuture<R>> futures = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        // Budgets are per thread, so the owner thread gets what is left of the caller's
+        long budgetMillis = Deadline.cap(Duration.ofSeconds(ConfigReader.getPageLoadTimeout() * Math.max(1, items.size()))).toMillis();
+        owner.execute(() -> drive(items, urlOf, rendered, check, futures, System.currentTimeMillis() + budgetMillis));
+        return futures;
+    }
+
+    /**
+     * Run check on every item's page and wait for all of them, keyed by item.
+     * Throws the first failure once all items are done; duplicate items are rejected.
+     */
+    public <T, R> Map<T, R> map(List<T> items, Function<T, String> urlOf, BiFunction<WebDriver, T, R> check) {
+        return map(items, urlOf, tab -> true, check);
+    }
+
+    /**
+     * Like map, checking each tab once rendered holds (see submit)
+     */
+    public <T, R> Map<T, R> map(List<T> items, Function<T, String> urlOf, Predicate<WebDriver> rendered,
+                                BiFunction<WebDriver, T, R> check) {
+        if (new HashSet<>(items).size() < items.size()) {
+            throw new IllegalArgumentException("Tab pool items must be distinct to be keyed by item: " + items);
+        }
+        List<CompletableFuture<R>> futures = submit(items, urlOf, rendered, check);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+        Map<T, R> results = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                results.put(items.get(i), futures.get(i).join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        return results;
+    }
+
+    private <T, R> void drive(List<T> items, Function<T, String> urlOf, Predicate<WebDriver> rendered,
+                              BiFunction<WebDriver, T, R> check, List<CompletableFuture<R>> futures, long deadline) {
+        Deque<Integer> pending = new ArrayDeque<>();
+        for (int i = 0; i < items.size(); i++) {
+            pending.add(i);
+        }
+        Map<String, Integer> loading = new LinkedHashMap<>();
+        Map<String, Long> loadedAt = new HashMap<>();
+        long renderWaitNanos = Duration.ofSeconds(ConfigReader.getTimeout()).toNanos();
+        long start = System.nanoTime();
+        try {
+            for (String handle : handles) {
+                startNext(handle, pending, loading, items, urlOf, futures);
+            }
+            while (!loading.isEmpty()) {
+                if (System.currentTimeMillis() > deadline) {
+                    loading.values().forEach(index -> futures.get(index).completeExceptionally(
+                            new TimeoutException("Tab did not finish loading: " + urlOf.apply(items.get(index)))));
+                    break;
+                }
+                boolean progressed = false;
+                for (String handle : new ArrayList<>(loading.keySet())) {
+                    driver.switchTo().window(handle);
+                    if (!isReady()) {
+                        continue;
+                    }
+                    long loaded = loadedAt.computeIfAbsent(handle, h -> System.nanoTime());
+                    if (!isRendered(rendered) && System.nanoTime() - loaded < renderWaitNanos) {
+                        continue;
+                    }
+                    loadedAt.remove(handle);
+                    int index = loading.remove(handle);
+                    try {
+                        futures.get(index).complete(check.apply(driver, items.get(index)));
+                    } catch (RuntimeException e) {
+                        futures.get(index).completeExceptionally(e);
+                    }
+                    startNext(handle, pending, loading, items, urlOf, futures);
+                    progressed = true;
+                }
+                if (!progressed) {
+                    Thread.sleep(20);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Tab pool failed", e);
+            futures.forEach(future -> future.completeExceptionally(e));
+        } finally {
+            futures.forEach(future -> future.completeExceptionally(new TimeoutException("Tab pool stopped")));
+        }
+        logger.info("Tab pool checked {} pages on {} tabs in {}ms",
+                items.size(), handles.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private <T, R> void startNext(String handle, Deque<Integer> pending, Map<String, Integer> loading,
+                                  List<T> items, Function<T, String> urlOf, List<CompletableFuture<R>> futures) {
+        while (!pending.isEmpty()) {
+            int index = pending.poll();
+            String url = urlOf.apply(items.get(index));
+            try {
+                RateLimiter limiter = ConfigReader.isRateLimitEnabled() ? RateLimiter.forUrl(url) : null;
+                if (limiter != null) {
+                    limiter.acquire();
+                }
+                driver.switchTo().window(handle);
+                ((JavascriptExecutor) driver).executeScript(NAVIGATE_SCRIPT, url);
+                loading.put(handle, index);
+                return;
+            } catch (WebDriverException e) {
+                futures.get(index).completeExceptionally(e);
+            }
+        }
+    }
+
+    private boolean isRendered(Predicate<WebDriver> rendered) {
+        try {
+            return rendered.test(driver);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean isReady() {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(READY_SCRIPT));
+        } catch (WebDriverException e) {
+            // Document is being swapped, poll again
+            return false;
+        }
+    }
+
+    /**
+     * Close the pool's tabs and return the session to its original tab
+     */
+    @Override
+    public void close() {
+        CompletableFuture.runAsync(() -> {
+            for (String handle : handles) {
+                try {
+                    driver.switchTo().window(handle).close();
+                } catch (WebDriverException e) {
+                    logger.debug("Tab already closed: {}", handle);
+                }
+            }
+            driver.switchTo().window(originalHandle);
+        }, owner).join();
+        owner.shutdown();
+        logger.info("Closed tab pool");
+    }
+}
@@ -0,0 +1,214 @@
+package com.reddit.automation.framework.base;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Structural fingerprint of key pages: which of the custom element tags the page objects rely on
+ * occur in the composed tree, and whether key shadow paths resolve. Compared with the last
+ * known-good fingerprint before a run so a Reddit UI change that breaks the page objects stops
+ * the suite in seconds instead of timing out in every scenario. Only curated tags are looked at,
+ * so feed content, ads and experiments on the live pages do not change the fingerprint.
+ */
+public class UiFingerprint {
+
+    private static final Logger logger = LoggerFactory.getLogger(UiFingerprint.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final WebDriver driver;
+    private final Map<String, Page> pages = new LinkedHashMap<>();
+
+    public UiFingerprint(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Add a page to fingerprint, with the custom element tags and shadow paths its page object depends on
+     */
+    public UiFingerprint page(String name, String url, List<String> keyTags, List<List<String>> keyPaths) {
+        pages.put(name, new Page(url, keyTags, keyPaths));
+        return this;
+    }
+
+    /**
+     * Fingerprint the current document
+     */
+    @SuppressWarnings("unchecked")
+    public Snapshot capture(List<String> keyTags, List<List<String>> keyPaths) {
+        Map<String, Object> structure = (Map<String, Object>) PageHelpers.call(driver, "structure", keyPaths, keyTags);
+        List<Boolean> resolved = (List<Boolean>) structure.get("paths");
+        Snapshot snapshot = new Snapshot();
+        snapshot.url = driver.getCurrentUrl();
+        snapshot.tags = new ArrayList<>((List<String>) structure.get("tags"));
+        snapshot.paths = new TreeMap<>();
+        for (int i = 0; i < keyPaths.size(); i++) {
+            snapshot.paths.put(String.join("/", keyPaths.get(i)), resolved.get(i));
+        }
+        snapshot.hash = snapshot.computeHash();
+        return snapshot;
+    }
+
+    /**
+     * Load every page once and compare its fingerprint with the last known-good one.
+     * Throws if a page has no known-good fingerprint, a key tag disappeared or a key path stopped
+     * resolving, unless ui.fingerprint.on.change is rebase; other changes are recorded as the new
+     * known-good fingerprint. A page is never silently taken as its own baseline, since the current
+     * load may be a throttled or error page.
+     */
+    public void preflight() {
+        File file = new File(ConfigReader.getUiFingerprintFile());
+        Map<String, Snapshot> knownGood = load(file);
+        List<String> changes = new ArrayList<>();
+        boolean updated = false;
+
+        for (Map.Entry<String, Page> page : pages.entrySet()) {
+            long start = System.nanoTime();
+            driver.get(page.getValue().url);
+            NetworkIdle.of(driver).waitForIdle();
+            Snapshot current = capture(page.getValue().keyTags, page.getValue().keyPaths);
+            Snapshot known = knownGood.get(page.getKey());
+            logger.info("Fingerprint of {}: {} ({} of {} key tags, {}ms)", page.getKey(), current.hash,
+                    current.tags.size(), page.getValue().keyTags.size(), (System.nanoTime() - start) / 1_000_000);
+
+            if (known == null) {
+                changes.add(page.getKey() + ": no known-good fingerprint");
+            } else if (!known.hash.equals(current.hash)) {
+                List<String> broken = current.breakingChanges(known);
+                if (broken.isEmpty()) {
+                    logger.info("UI structure of {} changed without losing key elements: {}", page.getKey(), current.diff(known));
+                } else {
+                    changes.add(page.getKey() + ": " + broken);
+                }
+            } else {
+                continue;
+            }
+            knownGood.put(page.getKey(), current);
+            updated = true;
+        }
+
+        if (changes.isEmpty()) {
+            logger.info("UI structure matches last known-good fingerprint");
+        } else if ("rebase".equalsIgnoreCase(ConfigReader.getUiFingerprintOnChange())) {
+            logger.warn("Rebasing known-good fingerprint: {}", changes);
+        } else {
+            throw new IllegalStateException("UI structure does not match a known-good fingerprint in " + file
+                    + " (check the pages, then set ui.fingerprint.on.change=rebase to record them): " + changes);
+        }
+        if (updated) {
+            save(file, knownGood);
+        }
+    }
+
+    private static Map<String, Snapshot> load(File file) {
+        if (!file.exists()) {
+            return new TreeMap<>();
+        }
+        try {
+            return objectMapper.readValue(file, new TypeReference<TreeMap<String, Snapshot>>() { });
+        } catch (IOException e) {
+            logger.warn("Failed to read known-good fingerprints, treating them as missing: {}", file, e);
+            return new TreeMap<>();
+        }
+    }
+
+    private static void save(File file, Map<String, Snapshot> fingerprints) {
+        try {
+            if (file.getAbsoluteFile().getParentFile() != null) {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+            }
+            objectMapper.writeValue(file, fingerprints);
+            logger.info("Known-good fingerprints saved to: {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to save known-good fingerprints: {}", file, e);
+        }
+    }
+
+    private static final class Page {
+        private final String url;
+        private final List<String> keyTags;
+        private final List<List<String>> keyPaths;
+
+        private Page(String url, List<String> keyTags, List<List<String>> keyPaths) {
+            this.url = url;
+            this.keyTags = keyTags;
+            this.keyPaths = keyPaths;
+        }
+    }
+
+    /**
+     * Fingerprint of one page
+     */
+    public static class Snapshot {
+        public String url;
+        public String hash;
+        public List<String> tags;
+        public Map<String, Boolean> paths;
+
+        String computeHash() {
+            StringBuilder canonical = new StringBuilder();
+            tags.forEach(tag -> canonical.append(tag).append('\n'));
+            paths.forEach((path, found) -> canonical.append(path).append('=').append(found).append('\n'));
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+                StringBuilder hex = new StringBuilder();
+                for (int i = 0; i < 8; i++) {
+                    hex.append(String.format("%02x", digest[i]));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        /**
+         * List the changes that break page objects: key tags that disappeared and key paths that stopped resolving
+         */
+        List<String> breakingChanges(Snapshot known) {
+            List<String> broken = new ArrayList<>();
+            for (String tag : known.tags) {
+                if (!tags.contains(tag)) {
+                    broken.add("tag " + tag + " removed");
+                }
+            }
+            paths.forEach((path, found) -> {
+                if (!found && Boolean.TRUE.equals(known.paths.get(path))) {
+                    broken.add(path + " no longer resolves");
+                }
+            });
+            return broken;
+        }
+
+        /**
+         * Describe what changed compared with an earlier fingerprint
+         */
+        String diff(Snapshot known) {
+            List<String> added = new ArrayList<>(tags);
+            added.removeAll(known.tags);
+            List<String> removed = new ArrayList<>(known.tags);
+            removed.removeAll(tags);
+            List<String> paths = new ArrayList<>();
+            this.paths.forEach((path, found) -> {
+                if (!found.equals(known.paths.get(path))) {
+                    paths.add(path + (found ? " now resolves" : " no longer resolves"));
+                }
+            });
+            return "added tags " + added + ", removed tags " + removed + ", paths " + paths;
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package com.reddit.automation.framework.pages;
 
 import com.reddit.automation.framework.base.BasePage;
+import com.reddit.automation.framework.base.FeedExtractor;
+import com.reddit.automation.framework.base.FirstOf;
+import com.reddit.automation.framework.base.LocatorRegistry;
+import com.reddit.automation.framework.base.TabPool;
+import com.reddit.automation.framework.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Reddit Home Page Object Model
@@ -16,19 +32,30 @@ public class RedditHomePage extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(RedditHomePage.class);
     
-    // Page Elements - Using CSS selectors for better reliability
-    private static final By LOGIN_BUTTON = By.cssSelector("a[href*='login'], a:contains('Log In'), a:contains('Sign In')");
-    private static final By SIGNUP_BUTTON = By.cssSelector("a[href*='signup'], a[href*='register'], a:contains('Sign Up'), a:contains('Register')");
-    private static final By SEARCH_BOX = By.cssSelector("input[placeholder*='Search'], input[type='search'], input[placeholder*='reddit']");
-    private static final By SEARCH_BUTTON = By.cssSelector("button[type='submit'], button:contains('Search')");
-    private static final By USER_MENU = By.cssSelector("[data-testid='user-dropdown'], .user-menu, .profile-menu");
-    private static final By LOGOUT_BUTTON = By.cssSelector("button:contains('Log Out'), a:contains('Log Out')");
-    private static final By POSTS_CONTAINER = By.cssSelector("[data-testid='post-container'], .post, .thing");
-    private static final By SUBREDDIT_LINKS = By.cssSelector("a[href*='/r/']");
-    private static final By SORT_DROPDOWN = By.cssSelector("[data-testid='sort-select'], select");
-    private static final By HOT_SORT = By.cssSelector("option[value='hot']");
-    private static final By NEW_SORT = By.cssSelector("option[value='new']");
-    private static final By TOP_SORT = By.cssSelector("option[value='top']");
+    // Page Elements - CSS selectors where possible, XPath for text matches (CSS has no :contains)
+    private static final By LOGIN_BUTTON = LocatorRegistry.xpath("RedditHomePage.LOGIN_BUTTON", "//a[contains(@href, 'login') or contains(., 'Log In') or contains(., 'Sign In')]");
+    private static final By SIGNUP_BUTTON = LocatorRegistry.xpath("RedditHomePage.SIGNUP_BUTTON", "//a[contains(@href, 'signup') or contains(@href, 'register') or contains(., 'Sign Up') or contains(., 'Register')]");
+    private static final By SEARCH_BOX = LocatorRegistry.css("RedditHomePage.SEARCH_BOX", "input[placeholder*='Search'], input[type='search'], input[placeholder*='reddit']");
+    private static final By USER_MENU = LocatorRegistry.css("RedditHomePage.USER_MENU", "[data-testid='user-dropdown'], .user-menu, .profile-menu");
+    private static final By LOGOUT_BUTTON = LocatorRegistry.xpath("RedditHomePage.LOGOUT_BUTTON", "//button[contains(., 'Log Out')] | //a[contains(., 'Log Out')]");
+    private static final By POSTS_CONTAINER = LocatorRegistry.css("RedditHomePage.POSTS_CONTAINER", "[data-testid='post-container'], .post, .thing");
+    private static final By SUBREDDIT_LINKS = LocatorRegistry.css("RedditHomePage.SUBREDDIT_LINKS", "a[href*='/r/']");
+    private static final By SEARCH_RESULTS = LocatorRegistry.css("RedditHomePage.SEARCH_RESULTS", "[data-testid='search-post-unit'], [data-testid='search-results'] shreddit-post, .search-result");
+    private static final By FEED_POST = LocatorRegistry.css("RedditHomePage.FEED_POST", "shreddit-post, .thing[data-fullname]");
+    private static final By SORT_DROPDOWN = LocatorRegistry.css("RedditHomePage.SORT_DROPDOWN", "[data-testid='sort-select'], select");
+    private static final By HOT_SORT = LocatorRegistry.css("RedditHomePage.HOT_SORT", "option[value='hot']");
+    private static final By NEW_SORT = LocatorRegistry.css("RedditHomePage.NEW_SORT", "option[value='new']");
+    private static final By TOP_SORT = LocatorRegistry.css("RedditHomePage.TOP_SORT", "option[value='top']");
+    
+    // Alternatives raced in the browser, with catch-alls only tried once the specific ones have timed out
+    private static final FirstOf SEARCH_BOX_ANY = LocatorRegistry.firstOf("RedditHomePage.SEARCH_BOX_ANY", FirstOf.named("search box")
+            .css("input[placeholder*='Search'], input[type='search'], input[placeholder*='reddit']")
+            .lastResort()
+            .css("input[type='text']"));
+    private static final FirstOf SEARCH_BUTTON_ANY = LocatorRegistry.firstOf("RedditHomePage.SEARCH_BUTTON_ANY", FirstOf.named("search button")
+            .css("button[type='submit'], input[type='submit']")
+            .lastResort()
+            .css("button"));
     
     public RedditHomePage(WebDriver driver) {
         super(driver);
@@ -65,28 +92,52 @@ public class RedditHomePage extends BasePage {
      */
     public void searchFor(String searchTerm) {
         logger.info("Searching for: {}", searchTerm);
-        try {
-            // Try standard approach first
-            sendTextToElement(SEARCH_BOX, searchTerm);
-            clickElement(SEARCH_BUTTON);
-        } catch (Exception e) {
-            logger.warn("Standard search approach failed, trying Shadow DOM approach", e);
-            try {
-                // Try JavaScript approach for Shadow DOM
-                String searchScript = "document.querySelector('input[placeholder*=\"Search\"], input[type=\"search\"], input[placeholder*=\"reddit\"]')";
-                sendTextByJavaScript(searchScript, searchTerm);
-                
-                String buttonScript = "document.querySelector('button[type=\"submit\"], input[type=\"submit\"]')";
-                clickElementByJavaScript(buttonScript);
-            } catch (Exception e2) {
-                logger.warn("JavaScript approach failed, trying alternative selectors", e2);
-                // Try alternative selectors
-                By altSearchBox = By.cssSelector("input[type='text'], input[type='search']");
-                By altSearchButton = By.cssSelector("button, input[type='submit']");
-                sendTextToElement(altSearchBox, searchTerm);
-                clickElement(altSearchButton);
-            }
+        typeIntoElement(waitForFirstOf(SEARCH_BOX_ANY), searchTerm);
+        WebElement searchButton = waitForFirstOf(SEARCH_BUTTON_ANY);
+        throttle();
+        clickOnElement(searchButton);
+    }
+    
+    /**
+     * Get URL of the search results page for a term
+     */
+    public static String searchUrl(String baseUrl, String searchTerm) {
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return base + "/search/?q=" + URLEncoder.encode(searchTerm, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Open the search results of every distinct term in parallel tabs of this session.
+     * Returns the number of results shown per term, 0 where none became visible.
+     */
+    public Map<String, Integer> searchAllInTabs(String baseUrl, List<String> searchTerms) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(searchTerms));
+        logger.info("Searching for {} terms in parallel tabs", terms.size());
+        try (TabPool tabs = new TabPool(driver, Math.min(ConfigReader.getTabPoolSize(), Math.max(1, terms.size())))) {
+            // Results render after the document loads; the pool polls for them so a term without results holds only its tab
+            return tabs.map(terms, term -> searchUrl(baseUrl, term), tab -> probe(SEARCH_RESULTS).isVisible(),
+                    (tab, term) -> countSearchResults());
+        }
+    }
+    
+    /**
+     * Count results on the current search page, 0 if none are visible
+     */
+    private int countSearchResults() {
+        if (!probe(SEARCH_RESULTS).isVisible()) {
+            logger.info("No search results visible on: {}", driver.getCurrentUrl());
+            return 0;
         }
+        return countElements(SEARCH_RESULTS);
+    }
+    
+    /**
+     * Wait until search results are visible, returning how many are shown
+     */
+    public int waitForSearchResults() {
+        logger.info("Waiting for search results");
+        boundedWait().until(ExpectedConditions.visibilityOfElementLocated(SEARCH_RESULTS));
+        return countElements(SEARCH_RESULTS);
     }
     
     /**
@@ -118,8 +169,7 @@ public class RedditHomePage extends BasePage {
      */
     public int getNumberOfPosts() {
         logger.info("Getting number of posts");
-        List<WebElement> posts = getElements(POSTS_CONTAINER);
-        return posts.size();
+        return getElementCount(POSTS_CONTAINER);
     }
     
     /**
@@ -127,8 +177,38 @@ public class RedditHomePage extends BasePage {
      */
     public int getNumberOfSubredditLinks() {
         logger.info("Getting number of subreddit links");
-        List<WebElement> links = getElements(SUBREDDIT_LINKS);
-        return links.size();
+        return getElementCount(SUBREDDIT_LINKS);
+    }
+    
+    /**
+     * Get URLs of subreddit links, read in one browser call
+     */
+    public List<String> getSubredditLinkUrls() {
+        logger.info("Getting subreddit link URLs");
+        return projectElements(SUBREDDIT_LINKS, "href");
+    }
+    
+    /**
+     * Scroll the feed of the current home or subreddit page, streaming post metadata
+     * (id, title, subreddit, score, permalink) to a JSONL file until maxPosts or the budget is reached
+     */
+    public FeedExtractor.Result extractFeed(Path output, int maxPosts, Duration budget) {
+        logger.info("Extracting up to {} feed posts to {}", maxPosts, output);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", "id|data-fullname");
+        fields.put("title", "post-title|data-title");
+        fields.put("subreddit", "subreddit-prefixed-name|data-subreddit-prefixed");
+        fields.put("score", "score|data-score");
+        fields.put("permalink", "permalink|data-permalink");
+        try {
+            return new FeedExtractor(driver, FEED_POST, fields)
+                    .numeric("score")
+                    .maxRecords(maxPosts)
+                    .budget(budget)
+                    .extract(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write feed to " + output, e);
+        }
     }
     
     /**
@@ -186,13 +266,13 @@ public class RedditHomePage extends BasePage {
      * Get page title
      */
     public String getPageTitle() {
-        return getPageTitle();
+        return super.getPageTitle();
     }
     
     /**
      * Get current URL
      */
     public String getCurrentUrl() {
-        return getCurrentUrl();
+        return super.getCurrentUrl();
     }
 }
@@ -0,0 +1,113 @@
+package com.reddit.automation.framework.pages;
+
+import com.reddit.automation.framework.base.AsyncPage;
+import org.openqa.selenium.WebDriver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous Reddit Home Page Object Model
+ */
+public class RedditHomePageAsync extends AsyncPage<RedditHomePage> {
+    
+    public RedditHomePageAsync(WebDriver driver) {
+        super(new RedditHomePage(driver));
+    }
+    
+    /**
+     * Navigate to Reddit home page
+     */
+    public CompletableFuture<Void> navigateToHomePage(String baseUrl) {
+        return run("navigateToHomePage", page -> page.navigateToHomePage(baseUrl));
+    }
+    
+    /**
+     * Search for content
+     */
+    public CompletableFuture<Void> searchFor(String searchTerm) {
+        return run("searchFor", page -> page.searchFor(searchTerm));
+    }
+    
+    /**
+     * Click on login button
+     */
+    public CompletableFuture<Void> clickLoginButton() {
+        return run("clickLoginButton", RedditHomePage::clickLoginButton);
+    }
+    
+    /**
+     * Check if user is logged in
+     */
+    public CompletableFuture<Boolean> isUserLoggedIn() {
+        return call("isUserLoggedIn", RedditHomePage::isUserLoggedIn);
+    }
+    
+    /**
+     * Get number of posts displayed
+     */
+    public CompletableFuture<Integer> getNumberOfPosts() {
+        return call("getNumberOfPosts", RedditHomePage::getNumberOfPosts);
+    }
+    
+    /**
+     * Get number of subreddit links
+     */
+    public CompletableFuture<Integer> getNumberOfSubredditLinks() {
+        return call("getNumberOfSubredditLinks", RedditHomePage::getNumberOfSubredditLinks);
+    }
+    
+    /**
+     * Check if search box is displayed
+     */
+    public CompletableFuture<Boolean> isSearchBoxDisplayed() {
+        return call("isSearchBoxDisplayed", RedditHomePage::isSearchBoxDisplayed);
+    }
+    
+    /**
+     * Check if login button is displayed
+     */
+    public CompletableFuture<Boolean> isLoginButtonDisplayed() {
+        return call("isLoginButtonDisplayed", RedditHomePage::isLoginButtonDisplayed);
+    }
+    
+    /**
+     * Check if signup button is displayed
+     */
+    public CompletableFuture<Boolean> isSignupButtonDisplayed() {
+        return call("isSignupButtonDisplayed", RedditHomePage::isSignupButtonDisplayed);
+    }
+    
+    /**
+     * Get page title
+     */
+    public CompletableFuture<String> getPageTitle() {
+        return call("getPageTitle", RedditHomePage::getPageTitle);
+    }
+    
+    /**
+     * Get current URL
+     */
+    public CompletableFuture<String> getCurrentUrl() {
+        return call("getCurrentUrl", RedditHomePage::getCurrentUrl);
+    }
+    
+    /**
+     * Issue title, URL and count reads together and combine them once all have completed
+     */
+    public CompletableFuture<Map<String, Object>> getOverview() {
+        CompletableFuture<String> title = getPageTitle();
+        CompletableFuture<String> url = getCurrentUrl();
+        CompletableFuture<Integer> posts = getNumberOfPosts();
+        CompletableFuture<Integer> links = getNumberOfSubredditLinks();
+        return CompletableFuture.allOf(title, url, posts, links).thenApply(ignored -> {
+            Map<String, Object> overview = new LinkedHashMap<>();
+            overview.put("title", title.join());
+            overview.put("url", url.join());
+            overview.put("posts", posts.join());
+            overview.put("subredditLinks", links.join());
+            return overview;
+        });
+    }
+}
@@ -1,13 +1,23 @@
 package com.reddit.automation.framework.pages;
 
 import com.reddit.automation.framework.base.BasePage;
+import com.reddit.automation.framework.base.FirstOf;
+import com.reddit.automation.framework.base.FormFill;
+import com.reddit.automation.framework.base.LocatorRegistry;
+import com.reddit.automation.framework.base.ProbeResult;
+import com.reddit.automation.framework.base.SessionCache;
+import com.reddit.automation.framework.utils.TestDataProvider.TestUser;
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Reddit Login Page Object Model
  */
@@ -15,75 +25,42 @@ public class RedditLoginPage extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(RedditLoginPage.class);
     
-    // Reddit Shadow DOM Elements - Updated for Reddit's actual structure
-    private static final By SHREDDIT_OVERLAY = By.cssSelector("shreddit-overlay-display");
-    private static final By SHREDDIT_SIGNUP_DRAWER = By.cssSelector("shreddit-signup-drawer");
-    private static final By SHREDDIT_SLOTTER = By.cssSelector("shreddit-slotter");
-    private static final By USERNAME_FIELD = By.cssSelector("input[name='username'], input[name='email'], input[type='text']");
-    private static final By PASSWORD_FIELD = By.cssSelector("input[type='password']");
-    private static final By LOGIN_BUTTON = By.cssSelector("button.login, button[type='submit'], input[type='submit']");
-    private static final By REMEMBER_ME_CHECKBOX = By.cssSelector("input[type='checkbox']");
-    private static final By ERROR_MESSAGE = By.cssSelector(".error, .alert, .message, [class*='error'], [class*='alert']");
-    private static final By FORGOT_PASSWORD_LINK = By.cssSelector("a[href*='forgot'], a[href*='reset']");
-    private static final By SIGNUP_LINK = By.cssSelector("a[href*='signup'], a[href*='register']");
-    private static final By LOGIN_FORM = By.cssSelector("form");
+    // Page Elements
+    private static final By USERNAME_FIELD = LocatorRegistry.css("RedditLoginPage.USERNAME_FIELD", "input[name='username'], input[name='email'], input[type='text']");
+    private static final By PASSWORD_FIELD = LocatorRegistry.css("RedditLoginPage.PASSWORD_FIELD", "input[type='password']");
+    private static final By LOGIN_BUTTON = LocatorRegistry.css("RedditLoginPage.LOGIN_BUTTON", "button.login, button[type='submit'], input[type='submit']");
+    private static final By REMEMBER_ME_CHECKBOX = LocatorRegistry.css("RedditLoginPage.REMEMBER_ME_CHECKBOX", "input[type='checkbox']");
+    private static final By ERROR_MESSAGE = LocatorRegistry.css("RedditLoginPage.ERROR_MESSAGE", ".error, .alert, .message, [class*='error'], [class*='alert']");
+    private static final By FORGOT_PASSWORD_LINK = LocatorRegistry.css("RedditLoginPage.FORGOT_PASSWORD_LINK", "a[href*='forgot'], a[href*='reset']");
+    private static final By SIGNUP_LINK = LocatorRegistry.css("RedditLoginPage.SIGNUP_LINK", "a[href*='signup'], a[href*='register']");
+    private static final By LOGIN_FORM = LocatorRegistry.css("RedditLoginPage.LOGIN_FORM", "form");
+    
+    // Shadow hosts wrapping the login form, outermost first
+    public static final List<String> SHADOW_HOSTS = Collections.unmodifiableList(Arrays.asList(
+            "shreddit-overlay-display", "shreddit-signup-drawer", "shreddit-slotter"));
+    private static final List<String> USERNAME_PATH = shadowPath(SHADOW_HOSTS, "input[name='username'], input[name='email']");
+    private static final List<String> PASSWORD_PATH = shadowPath(SHADOW_HOSTS, "input[type='password']");
+    private static final List<String> LOGIN_BUTTON_PATH = shadowPath(SHADOW_HOSTS, "button.login, button[type='submit']");
+    
+    // Shadow DOM and light DOM alternatives, raced in the browser; catch-alls only after the others time out
+    private static final FirstOf USERNAME_ANY = LocatorRegistry.firstOf("RedditLoginPage.USERNAME_ANY", FirstOf.named("username field")
+            .shadow(USERNAME_PATH)
+            .css("input[name='username'], input[name='email']")
+            .lastResort()
+            .shadow(shadowPath(SHADOW_HOSTS, "input[type='text']")));
+    private static final FirstOf PASSWORD_ANY = LocatorRegistry.firstOf("RedditLoginPage.PASSWORD_ANY", FirstOf.named("password field")
+            .shadow(PASSWORD_PATH)
+            .css("input[type='password']"));
+    private static final FirstOf LOGIN_BUTTON_ANY = LocatorRegistry.firstOf("RedditLoginPage.LOGIN_BUTTON_ANY", FirstOf.named("login button")
+            .shadow(LOGIN_BUTTON_PATH)
+            .shadow(shadowPath(SHADOW_HOSTS, "input[type='submit']"))
+            .css("button.login, button[type='submit'], input[type='submit']"));
     
     public RedditLoginPage(WebDriver driver) {
         super(driver);
         logger.info("RedditLoginPage initialized");
     }
     
-    /**
-     * Navigate through Reddit's nested Shadow DOM structure
-     */
-    private WebElement navigateShadowDOM() {
-        logger.info("Navigating through Reddit's Shadow DOM structure");
-        try {
-            // Step 1: Find the shreddit-overlay-display element
-            WebElement shadowHost1 = waitForElementToBePresent(SHREDDIT_OVERLAY);
-            logger.info("Found shreddit-overlay-display element");
-            
-            // Step 2: Access its shadow root
-            WebElement shadowRoot1 = expandShadowElement(shadowHost1);
-            logger.info("Accessed first shadow root");
-            
-            // Step 3: Find shreddit-signup-drawer within the shadow root
-            WebElement shadowHost2 = shadowRoot1.findElement(SHREDDIT_SIGNUP_DRAWER);
-            logger.info("Found shreddit-signup-drawer element");
-            
-            // Step 4: Access its shadow root
-            WebElement shadowRoot2 = expandShadowElement(shadowHost2);
-            logger.info("Accessed second shadow root");
-            
-            // Step 5: Find shreddit-slotter within the shadow root
-            WebElement shadowHost3 = shadowRoot2.findElement(SHREDDIT_SLOTTER);
-            logger.info("Found shreddit-slotter element");
-            
-            // Step 6: Access its shadow root
-            WebElement shadowRoot3 = expandShadowElement(shadowHost3);
-            logger.info("Accessed third shadow root");
-            
-            return shadowRoot3;
-        } catch (Exception e) {
-            logger.error("Failed to navigate Shadow DOM structure", e);
-            throw new RuntimeException("Could not access Reddit's Shadow DOM elements", e);
-        }
-    }
-    
-    /**
-     * Expand shadow element using JavaScript
-     */
-    private WebElement expandShadowElement(WebElement element) {
-        logger.info("Expanding shadow element");
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            return (WebElement) js.executeScript("return arguments[0].shadowRoot", element);
-        } catch (Exception e) {
-            logger.error("Failed to expand shadow element", e);
-            throw new RuntimeException("Could not access shadow root", e);
-        }
-    }
-    
     /**
      * Navigate to login page
      */
@@ -99,28 +76,10 @@ public class RedditLoginPage extends BasePage {
     public void enterUsername(String username) {
         logger.info("Entering username: {}", username);
         try {
-            // Navigate through Reddit's Shadow DOM structure
-            WebElement shadowRoot = navigateShadowDOM();
-            
-            // Find username field within the shadow root
-            WebElement usernameField = shadowRoot.findElement(USERNAME_FIELD);
-            logger.info("Found username field in Shadow DOM");
-            
-            // Clear and enter username
-            usernameField.clear();
-            usernameField.sendKeys(username);
-            logger.info("Successfully entered username in Shadow DOM");
-            
+            typeIntoElement(waitForFirstOf(USERNAME_ANY), username);
         } catch (Exception e) {
-            logger.warn("Shadow DOM approach failed, trying JavaScript approach", e);
-            try {
-                // Fallback to JavaScript approach
-                String script = "document.querySelector('shreddit-overlay-display').shadowRoot.querySelector('shreddit-signup-drawer').shadowRoot.querySelector('shreddit-slotter').shadowRoot.querySelector('input[name=\"username\"], input[name=\"email\"]')";
-                sendTextByJavaScript(script, username);
-            } catch (Exception e2) {
-                logger.error("All approaches failed for username field", e2);
-                throw new RuntimeException("Could not find or interact with username field", e2);
-            }
+            logger.error("Could not enter username", e);
+            throw new RuntimeException("Could not find or interact with username field", e);
         }
     }
     
@@ -130,28 +89,10 @@ public class RedditLoginPage extends BasePage {
     public void enterPassword(String password) {
         logger.info("Entering password");
         try {
-            // Navigate through Reddit's Shadow DOM structure
-            WebElement shadowRoot = navigateShadowDOM();
-            
-            // Find password field within the shadow root
-            WebElement passwordField = shadowRoot.findElement(PASSWORD_FIELD);
-            logger.info("Found password field in Shadow DOM");
-            
-            // Clear and enter password
-            passwordField.clear();
-            passwordField.sendKeys(password);
-            logger.info("Successfully entered password in Shadow DOM");
-            
+            typeIntoElement(waitForFirstOf(PASSWORD_ANY), password);
         } catch (Exception e) {
-            logger.warn("Shadow DOM approach failed, trying JavaScript approach", e);
-            try {
-                // Fallback to JavaScript approach
-                String script = "document.querySelector('shreddit-overlay-display').shadowRoot.querySelector('shreddit-signup-drawer').shadowRoot.querySelector('shreddit-slotter').shadowRoot.querySelector('input[type=\"password\"]')";
-                sendTextByJavaScript(script, password);
-            } catch (Exception e2) {
-                logger.error("All approaches failed for password field", e2);
-                throw new RuntimeException("Could not find or interact with password field", e2);
-            }
+            logger.error("Could not enter password", e);
+            throw new RuntimeException("Could not find or interact with password field", e);
         }
     }
     
@@ -161,27 +102,10 @@ public class RedditLoginPage extends BasePage {
     public void clickLoginButton() {
         logger.info("Clicking login button");
         try {
-            // Navigate through Reddit's Shadow DOM structure
-            WebElement shadowRoot = navigateShadowDOM();
-            
-            // Find login button within the shadow root
-            WebElement loginButton = shadowRoot.findElement(LOGIN_BUTTON);
-            logger.info("Found login button in Shadow DOM");
-            
-            // Click the login button
-            loginButton.click();
-            logger.info("Successfully clicked login button in Shadow DOM");
-            
+            clickOnElement(waitForFirstOf(LOGIN_BUTTON_ANY));
         } catch (Exception e) {
-            logger.warn("Shadow DOM approach failed, trying JavaScript approach", e);
-            try {
-                // Fallback to JavaScript approach
-                String script = "document.querySelector('shreddit-overlay-display').shadowRoot.querySelector('shreddit-signup-drawer').shadowRoot.querySelector('shreddit-slotter').shadowRoot.querySelector('button.login, button[type=\"submit\"]')";
-                clickElementByJavaScript(script);
-            } catch (Exception e2) {
-                logger.error("All approaches failed for login button", e2);
-                throw new RuntimeException("Could not find or interact with login button", e2);
-            }
+            logger.error("Could not click login button", e);
+            throw new RuntimeException("Could not find or interact with login button", e);
         }
     }
     
@@ -190,11 +114,34 @@ public class RedditLoginPage extends BasePage {
      */
     public void login(String username, String password) {
         logger.info("Performing login for user: {}", username);
-        enterUsername(username);
-        enterPassword(password);
+        try {
+            fillForm(FormFill.create()
+                    .set(USERNAME_ANY, username)
+                    .set(PASSWORD_ANY, password));
+        } catch (Exception e) {
+            logger.error("Could not fill login form", e);
+            throw new RuntimeException("Could not find or interact with login form", e);
+        }
         clickLoginButton();
     }
     
+    /**
+     * Log in as user, restoring the user's cached session instead of using the login form when it is still valid
+     */
+    public void loginWithCachedSession(String baseUrl, TestUser user) {
+        logger.info("Logging in with cached session for user: {}", user.getUsername());
+        RedditHomePage homePage = new RedditHomePage(driver);
+        SessionCache.restoreOrLogin(driver, "reddit-" + user.getUsername(),
+                d -> {
+                    homePage.navigateToHomePage(baseUrl);
+                    return homePage.isUserLoggedIn();
+                },
+                d -> {
+                    navigateToLoginPage(baseUrl);
+                    login(user.getUsername(), user.getPassword());
+                });
+    }
+    
     /**
      * Check remember me checkbox
      */
@@ -263,27 +210,11 @@ public class RedditLoginPage extends BasePage {
      */
     public boolean isUsernameFieldDisplayed() {
         logger.info("Checking if username field is displayed");
-        try {
-            // Navigate through Reddit's Shadow DOM structure
-            WebElement shadowRoot = navigateShadowDOM();
-            
-            // Find username field within the shadow root
-            WebElement usernameField = shadowRoot.findElement(USERNAME_FIELD);
-            boolean isDisplayed = usernameField.isDisplayed();
-            logger.info("Username field display status: {}", isDisplayed);
-            return isDisplayed;
-            
-        } catch (Exception e) {
-            logger.warn("Shadow DOM approach failed, trying JavaScript approach", e);
-            try {
-                String script = "document.querySelector('shreddit-overlay-display').shadowRoot.querySelector('shreddit-signup-drawer').shadowRoot.querySelector('shreddit-slotter').shadowRoot.querySelector('input[name=\"username\"], input[name=\"email\"]')";
-                WebElement element = findElementByJavaScript(script);
-                return element != null && element.isDisplayed();
-            } catch (Exception e2) {
-                logger.error("All approaches failed for username field detection", e2);
-                return false;
-            }
+        ProbeResult result = probe(USERNAME_ANY, probeTimeout());
+        if (!result.isVisible()) {
+            logger.info("Username field not displayed ({})", result);
         }
+        return result.isVisible();
     }
     
     /**
@@ -291,27 +222,11 @@ public class RedditLoginPage extends BasePage {
      */
     public boolean isPasswordFieldDisplayed() {
         logger.info("Checking if password field is displayed");
-        try {
-            // Navigate through Reddit's Shadow DOM structure
-            WebElement shadowRoot = navigateShadowDOM();
-            
-            // Find password field within the shadow root
-            WebElement passwordField = shadowRoot.findElement(PASSWORD_FIELD);
-            boolean isDisplayed = passwordField.isDisplayed();
-            logger.info("Password field display status: {}", isDisplayed);
-            return isDisplayed;
-            
-        } catch (Exception e) {
-            logger.warn("Shadow DOM approach failed, trying JavaScript approach", e);
-            try {
-                String script = "document.querySelector('shreddit-overlay-display').shadowRoot.querySelector('shreddit-signup-drawer').shadowRoot.querySelector('shreddit-slotter').shadowRoot.querySelector('input[type=\"password\"]')";
-                WebElement element = findElementByJavaScript(script);
-                return element != null && element.isDisplayed();
-            } catch (Exception e2) {
-                logger.error("All approaches failed for password field detection", e2);
-                return false;
-            }
+        ProbeResult result = probe(PASSWORD_ANY, probeTimeout());
+        if (!result.isVisible()) {
+            logger.info("Password field not displayed ({})", result);
         }
+        return result.isVisible();
     }
     
     /**
@@ -327,11 +242,14 @@ public class RedditLoginPage extends BasePage {
      */
     public boolean isUsernameFieldEnabled() {
         logger.info("Checking if username field is enabled");
+        if (!probe(USERNAME_FIELD, probeTimeout()).isVisible()) {
+            logger.info("Username field not visible, treating as disabled");
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(USERNAME_FIELD);
-            return element.isEnabled();
-        } catch (Exception e) {
-            logger.warn("Username field not found or not enabled");
+            return driver.findElement(USERNAME_FIELD).isEnabled();
+        } catch (WebDriverException e) {
+            logger.warn("Username field not readable: {}", e.getMessage());
             return false;
         }
     }
@@ -341,11 +259,14 @@ public class RedditLoginPage extends BasePage {
      */
     public boolean isPasswordFieldEnabled() {
         logger.info("Checking if password field is enabled");
+        if (!probe(PASSWORD_FIELD, probeTimeout()).isVisible()) {
+            logger.info("Password field not visible, treating as disabled");
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(PASSWORD_FIELD);
-            return element.isEnabled();
-        } catch (Exception e) {
-            logger.warn("Password field not found or not enabled");
+            return driver.findElement(PASSWORD_FIELD).isEnabled();
+        } catch (WebDriverException e) {
+            logger.warn("Password field not readable: {}", e.getMessage());
             return false;
         }
     }
@@ -390,11 +311,14 @@ public class RedditLoginPage extends BasePage {
      * Check if element is selected (for checkboxes)
      */
     private boolean isElementSelected(By locator) {
+        if (!probe(locator, probeTimeout()).isVisible()) {
+            logger.info("Element not visible, treating as unselected: {}", locator);
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(locator);
-            return element.isSelected();
-        } catch (Exception e) {
-            logger.warn("Element not found or not selectable: {}", locator);
+            return driver.findElement(locator).isSelected();
+        } catch (WebDriverException e) {
+            logger.warn("Element not selectable: {}", locator);
             return false;
         }
     }
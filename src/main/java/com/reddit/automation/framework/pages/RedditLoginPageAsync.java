@@ -0,0 +1,72 @@
+package com.reddit.automation.framework.pages;
+
+import com.reddit.automation.framework.base.AsyncPage;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous Reddit Login Page Object Model
+ */
+public class RedditLoginPageAsync extends AsyncPage<RedditLoginPage> {
+    
+    public RedditLoginPageAsync(WebDriver driver) {
+        super(new RedditLoginPage(driver));
+    }
+    
+    /**
+     * Navigate to login page
+     */
+    public CompletableFuture<Void> navigateToLoginPage(String baseUrl) {
+        return run("navigateToLoginPage", page -> page.navigateToLoginPage(baseUrl));
+    }
+    
+    /**
+     * Perform login
+     */
+    public CompletableFuture<Void> login(String username, String password) {
+        return run("login", page -> page.login(username, password));
+    }
+    
+    /**
+     * Check if error message is displayed
+     */
+    public CompletableFuture<Boolean> isErrorMessageDisplayed() {
+        return call("isErrorMessageDisplayed", RedditLoginPage::isErrorMessageDisplayed);
+    }
+    
+    /**
+     * Get error message text
+     */
+    public CompletableFuture<String> getErrorMessage() {
+        return call("getErrorMessage", RedditLoginPage::getErrorMessage);
+    }
+    
+    /**
+     * Check if login form is displayed
+     */
+    public CompletableFuture<Boolean> isLoginFormDisplayed() {
+        return call("isLoginFormDisplayed", RedditLoginPage::isLoginFormDisplayed);
+    }
+    
+    /**
+     * Check if username field is displayed
+     */
+    public CompletableFuture<Boolean> isUsernameFieldDisplayed() {
+        return call("isUsernameFieldDisplayed", RedditLoginPage::isUsernameFieldDisplayed);
+    }
+    
+    /**
+     * Check if password field is displayed
+     */
+    public CompletableFuture<Boolean> isPasswordFieldDisplayed() {
+        return call("isPasswordFieldDisplayed", RedditLoginPage::isPasswordFieldDisplayed);
+    }
+    
+    /**
+     * Check if login button is displayed
+     */
+    public CompletableFuture<Boolean> isLoginButtonDisplayed() {
+        return call("isLoginButtonDisplayed", RedditLoginPage::isLoginButtonDisplayed);
+    }
+}
@@ -1,8 +1,11 @@
 package com.reddit.automation.framework.pages;
 
 import com.reddit.automation.framework.base.BasePage;
+import com.reddit.automation.framework.base.FormFill;
+import com.reddit.automation.framework.base.LocatorRegistry;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,17 +18,17 @@ public class RedditSignupPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(RedditSignupPage.class);
     
     // Page Elements
-    private static final By USERNAME_FIELD = By.xpath("//input[@name='username']");
-    private static final By EMAIL_FIELD = By.xpath("//input[@name='email']");
-    private static final By PASSWORD_FIELD = By.xpath("//input[@name='password']");
-    private static final By CONFIRM_PASSWORD_FIELD = By.xpath("//input[@name='confirmPassword']");
-    private static final By SIGNUP_BUTTON = By.xpath("//button[@type='submit' and contains(text(), 'Sign Up')]");
-    private static final By TERMS_CHECKBOX = By.xpath("//input[@type='checkbox' and @name='terms']");
-    private static final By PRIVACY_CHECKBOX = By.xpath("//input[@type='checkbox' and @name='privacy']");
-    private static final By ERROR_MESSAGE = By.xpath("//div[contains(@class, 'error') or contains(@class, 'alert')]");
-    private static final By SUCCESS_MESSAGE = By.xpath("//div[contains(@class, 'success') or contains(@class, 'message')]");
-    private static final By LOGIN_LINK = By.xpath("//a[contains(text(), 'Log In') or contains(text(), 'Sign In')]");
-    private static final By SIGNUP_FORM = By.xpath("//form[contains(@class, 'signup') or contains(@class, 'register')]");
+    private static final By USERNAME_FIELD = LocatorRegistry.xpath("RedditSignupPage.USERNAME_FIELD", "//input[@name='username']");
+    private static final By EMAIL_FIELD = LocatorRegistry.xpath("RedditSignupPage.EMAIL_FIELD", "//input[@name='email']");
+    private static final By PASSWORD_FIELD = LocatorRegistry.xpath("RedditSignupPage.PASSWORD_FIELD", "//input[@name='password']");
+    private static final By CONFIRM_PASSWORD_FIELD = LocatorRegistry.xpath("RedditSignupPage.CONFIRM_PASSWORD_FIELD", "//input[@name='confirmPassword']");
+    private static final By SIGNUP_BUTTON = LocatorRegistry.xpath("RedditSignupPage.SIGNUP_BUTTON", "//button[@type='submit' and contains(text(), 'Sign Up')]");
+    private static final By TERMS_CHECKBOX = LocatorRegistry.xpath("RedditSignupPage.TERMS_CHECKBOX", "//input[@type='checkbox' and @name='terms']");
+    private static final By PRIVACY_CHECKBOX = LocatorRegistry.xpath("RedditSignupPage.PRIVACY_CHECKBOX", "//input[@type='checkbox' and @name='privacy']");
+    private static final By ERROR_MESSAGE = LocatorRegistry.xpath("RedditSignupPage.ERROR_MESSAGE", "//div[contains(@class, 'error') or contains(@class, 'alert')]");
+    private static final By SUCCESS_MESSAGE = LocatorRegistry.xpath("RedditSignupPage.SUCCESS_MESSAGE", "//div[contains(@class, 'success') or contains(@class, 'message')]");
+    private static final By LOGIN_LINK = LocatorRegistry.xpath("RedditSignupPage.LOGIN_LINK", "//a[contains(text(), 'Log In') or contains(text(), 'Sign In')]");
+    private static final By SIGNUP_FORM = LocatorRegistry.xpath("RedditSignupPage.SIGNUP_FORM", "//form[contains(@class, 'signup') or contains(@class, 'register')]");
     
     public RedditSignupPage(WebDriver driver) {
         super(driver);
@@ -86,10 +89,11 @@ public class RedditSignupPage extends BasePage {
      */
     public void signup(String username, String email, String password) {
         logger.info("Performing signup for user: {}", username);
-        enterUsername(username);
-        enterEmail(email);
-        enterPassword(password);
-        enterConfirmPassword(password);
+        fillForm(FormFill.create()
+                .set(USERNAME_FIELD, username)
+                .set(EMAIL_FIELD, email)
+                .set(PASSWORD_FIELD, password)
+                .set(CONFIRM_PASSWORD_FIELD, password));
         clickSignupButton();
     }
     
@@ -232,11 +236,14 @@ public class RedditSignupPage extends BasePage {
      */
     public boolean isUsernameFieldEnabled() {
         logger.info("Checking if username field is enabled");
+        if (!probe(USERNAME_FIELD, probeTimeout()).isVisible()) {
+            logger.info("Username field not visible, treating as disabled");
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(USERNAME_FIELD);
-            return element.isEnabled();
-        } catch (Exception e) {
-            logger.warn("Username field not found or not enabled");
+            return driver.findElement(USERNAME_FIELD).isEnabled();
+        } catch (WebDriverException e) {
+            logger.warn("Username field not readable: {}", e.getMessage());
             return false;
         }
     }
@@ -246,11 +253,14 @@ public class RedditSignupPage extends BasePage {
      */
     public boolean isEmailFieldEnabled() {
         logger.info("Checking if email field is enabled");
+        if (!probe(EMAIL_FIELD, probeTimeout()).isVisible()) {
+            logger.info("Email field not visible, treating as disabled");
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(EMAIL_FIELD);
-            return element.isEnabled();
-        } catch (Exception e) {
-            logger.warn("Email field not found or not enabled");
+            return driver.findElement(EMAIL_FIELD).isEnabled();
+        } catch (WebDriverException e) {
+            logger.warn("Email field not readable: {}", e.getMessage());
             return false;
         }
     }
@@ -260,11 +270,14 @@ public class RedditSignupPage extends BasePage {
      */
     public boolean isPasswordFieldEnabled() {
         logger.info("Checking if password field is enabled");
+        if (!probe(PASSWORD_FIELD, probeTimeout()).isVisible()) {
+            logger.info("Password field not visible, treating as disabled");
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(PASSWORD_FIELD);
-            return element.isEnabled();
-        } catch (Exception e) {
-            logger.warn("Password field not found or not enabled");
+            return driver.findElement(PASSWORD_FIELD).isEnabled();
+        } catch (WebDriverException e) {
+            logger.warn("Password field not readable: {}", e.getMessage());
             return false;
         }
     }
@@ -345,11 +358,14 @@ public class RedditSignupPage extends BasePage {
      * Check if element is selected (for checkboxes)
      */
     private boolean isElementSelected(By locator) {
+        if (!probe(locator, probeTimeout()).isVisible()) {
+            logger.info("Element not visible, treating as unselected: {}", locator);
+            return false;
+        }
         try {
-            WebElement element = waitForElementToBeVisible(locator);
-            return element.isSelected();
-        } catch (Exception e) {
-            logger.warn("Element not found or not selectable: {}", locator);
+            return driver.findElement(locator).isSelected();
+        } catch (WebDriverException e) {
+            logger.warn("Element not selectable: {}", locator);
             return false;
         }
     }
@@ -0,0 +1,65 @@
+package com.reddit.automation.framework.pages;
+
+import com.reddit.automation.framework.base.AsyncPage;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous Reddit Signup Page Object Model
+ */
+public class RedditSignupPageAsync extends AsyncPage<RedditSignupPage> {
+    
+    public RedditSignupPageAsync(WebDriver driver) {
+        super(new RedditSignupPage(driver));
+    }
+    
+    /**
+     * Navigate to signup page
+     */
+    public CompletableFuture<Void> navigateToSignupPage(String baseUrl) {
+        return run("navigateToSignupPage", page -> page.navigateToSignupPage(baseUrl));
+    }
+    
+    /**
+     * Perform signup
+     */
+    public CompletableFuture<Void> signup(String username, String email, String password) {
+        return run("signup", page -> page.signup(username, email, password));
+    }
+    
+    /**
+     * Check if error message is displayed
+     */
+    public CompletableFuture<Boolean> isErrorMessageDisplayed() {
+        return call("isErrorMessageDisplayed", RedditSignupPage::isErrorMessageDisplayed);
+    }
+    
+    /**
+     * Get error message text
+     */
+    public CompletableFuture<String> getErrorMessage() {
+        return call("getErrorMessage", RedditSignupPage::getErrorMessage);
+    }
+    
+    /**
+     * Check if success message is displayed
+     */
+    public CompletableFuture<Boolean> isSuccessMessageDisplayed() {
+        return call("isSuccessMessageDisplayed", RedditSignupPage::isSuccessMessageDisplayed);
+    }
+    
+    /**
+     * Check if signup form is displayed
+     */
+    public CompletableFuture<Boolean> isSignupFormDisplayed() {
+        return call("isSignupFormDisplayed", RedditSignupPage::isSignupFormDisplayed);
+    }
+    
+    /**
+     * Check if signup button is displayed
+     */
+    public CompletableFuture<Boolean> isSignupButtonDisplayed() {
+        return call("isSignupButtonDisplayed", RedditSignupPage::isSignupButtonDisplayed);
+    }
+}
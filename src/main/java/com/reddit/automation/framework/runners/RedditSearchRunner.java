@@ -0,0 +1,263 @@
+package com.reddit.automation.framework.runners;
+
+import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.pages.RedditHomePage;
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs RedditHomePage.searchFor for many terms across a pool of browser sessions, as a lazy
+ * TestNG data provider: terms are handed to the sessions a few at a time as the iterator is
+ * consumed, and each result is returned as soon as its search completes. Latency is measured
+ * from submitting the search to results visible, with the time a term waited for a free session
+ * reported separately; a throughput and latency report is written at the end.
+ */
+public class RedditSearchRunner implements Iterator<Object[]>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedditSearchRunner.class);
+    private static final Job STOP = new Job(null);
+
+    private final Iterator<String> terms;
+    private final int total;
+    private final int sessions;
+    private final String baseUrl;
+    private final BlockingQueue<Job> jobs = new LinkedBlockingQueue<>();
+    private final BlockingQueue<SearchResult> completed = new LinkedBlockingQueue<>();
+    private final List<SearchResult> results = new ArrayList<>();
+    private final ExecutorService workers;
+    private final long startedAt = System.nanoTime();
+    private int submitted;
+    private int returned;
+    private boolean closed;
+
+    public RedditSearchRunner(String baseUrl, List<String> searchTerms, int sessions) {
+        this.baseUrl = baseUrl;
+        this.terms = new ArrayList<>(searchTerms).iterator();
+        this.total = searchTerms.size();
+        this.sessions = Math.max(1, Math.min(sessions, total));
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.sessions, r -> {
+            Thread thread = new Thread(r, "search-runner-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < this.sessions; i++) {
+            workers.execute(this::work);
+        }
+        logger.info("Search runner started: {} terms on {} sessions", total, this.sessions);
+    }
+
+    /**
+     * Run search.runner.sessions sessions against the configured base URL
+     */
+    public RedditSearchRunner(List<String> searchTerms) {
+        this(ConfigReader.getBaseUrl(), searchTerms, ConfigReader.getSearchRunnerSessions());
+    }
+
+    /**
+     * Session loop: each worker thread owns one browser and searches terms until told to stop
+     */
+    private void work() {
+        RedditHomePage homePage = null;
+        try {
+            while (true) {
+                Job job = jobs.take();
+                if (job == STOP) {
+                    return;
+                }
+                job.startedAt = System.nanoTime();
+                SearchResult result;
+                try {
+                    if (homePage == null) {
+                        homePage = new RedditHomePage(DriverManager.initializeDriver(ConfigReader.getBrowser()));
+                    }
+                    homePage.navigateToHomePage(baseUrl);
+                    job.searchedAt = System.nanoTime();
+                    homePage.searchFor(job.term);
+                    int resultCount = homePage.waitForSearchResults();
+                    long finishedAt = System.nanoTime();
+                    result = new SearchResult(job, finishedAt, homePage.getCurrentUrl(), resultCount, null);
+                } catch (RuntimeException e) {
+                    logger.warn("Search for '{}' failed: {}", job.term, e.getMessage());
+                    result = new SearchResult(job, System.nanoTime(), null, 0, e);
+                }
+                completed.add(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            DriverManager.quitDriver();
+        }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (returned < total) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public synchronized Object[] next() {
+        if (returned >= total) {
+            throw new NoSuchElementException();
+        }
+        // Keep every session busy with one more term queued behind it, but no more
+        while (terms.hasNext() && submitted - returned < sessions * 2) {
+            jobs.add(new Job(terms.next()));
+            submitted++;
+        }
+        SearchResult result;
+        try {
+            long timeoutSeconds = (long) ConfigReader.getPageLoadTimeout() + ConfigReader.getTimeout() * 3L;
+            result = completed.poll(timeoutSeconds * 2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a search result", e);
+        }
+        if (result == null) {
+            throw new TimeoutException("No search completed in time, " + (total - returned) + " outstanding");
+        }
+        results.add(result);
+        returned++;
+        return new Object[] {result};
+    }
+
+    /**
+     * Stop the sessions and write the report
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int i = 0; i < sessions; i++) {
+            jobs.add(STOP);
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(ConfigReader.getPageLoadTimeout(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String report = report();
+        logger.info("Search runner report:\n{}", report);
+        File file = new File(ConfigReader.getSearchRunnerReportFile());
+        try {
+            if (file.getAbsoluteFile().getParentFile() != null) {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+            }
+            Files.write(file.toPath(), report.getBytes(StandardCharsets.UTF_8));
+            logger.info("Search runner report saved to: {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to save search runner report: {}", file, e);
+        }
+    }
+
+    /**
+     * Report throughput and latency percentiles over the results returned so far, then each term
+     */
+    public synchronized String report() {
+        double elapsedSeconds = Math.max(1, System.nanoTime() - startedAt) / 1e9;
+        List<Long> latencies = new ArrayList<>();
+        long queueMillis = 0;
+        int failures = 0;
+        for (SearchResult result : results) {
+            if (result.isSuccess()) {
+                latencies.add(result.getLatencyMillis());
+            } else {
+                failures++;
+            }
+            queueMillis += result.getQueueMillis();
+        }
+        Collections.sort(latencies);
+        StringBuilder report = new StringBuilder(String.format(
+                "terms=%d, failures=%d, sessions=%d, elapsed=%.1fs, throughput=%.2f terms/s%n"
+                        + "latency (search submitted to results visible): p50=%dms, p90=%dms, max=%dms; mean queue time=%dms%n",
+                results.size(), failures, sessions, elapsedSeconds, results.size() / elapsedSeconds,
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 100),
+                results.isEmpty() ? 0 : queueMillis / results.size()));
+        for (SearchResult result : results) {
+            report.append(String.format("  %-24s latency=%6dms  queued=%6dms  %s%n", result.getTerm(),
+                    result.getLatencyMillis(), result.getQueueMillis(), result.isSuccess()
+                            ? result.getResultCount() + " results at " + result.getUrl()
+                            : "FAILED: " + result.getError().getMessage()));
+        }
+        return report.toString();
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private static final class Job {
+        private final String term;
+        private final long submittedAt = System.nanoTime();
+        private long startedAt;
+        private long searchedAt;
+
+        private Job(String term) {
+            this.term = term;
+        }
+    }
+
+    /**
+     * Outcome of one search
+     */
+    public static class SearchResult {
+        private final String term;
+        private final String url;
+        private final int resultCount;
+        private final RuntimeException error;
+        private final long latencyMillis;
+        private final long queueMillis;
+
+        private SearchResult(Job job, long finishedAt, String url, int resultCount, RuntimeException error) {
+            this.term = job.term;
+            this.url = url;
+            this.resultCount = resultCount;
+            this.error = error;
+            // A search that failed before it was submitted has no latency
+            this.latencyMillis = job.searchedAt == 0 ? 0 : (finishedAt - job.searchedAt) / 1_000_000;
+            this.queueMillis = (job.startedAt - job.submittedAt) / 1_000_000;
+        }
+
+        public String getTerm() { return term; }
+        public String getUrl() { return url; }
+        public int getResultCount() { return resultCount; }
+        public RuntimeException getError() { return error; }
+        public boolean isSuccess() { return error == null; }
+        public long getLatencyMillis() { return latencyMillis; }
+        public long getQueueMillis() { return queueMillis; }
+
+        @Override
+        public String toString() {
+            return "SearchResult{" + term + "}";
+        }
+    }
+}
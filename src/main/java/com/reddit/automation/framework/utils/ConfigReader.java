@@ -43,10 +43,55 @@ public class ConfigReader {
         logger.info("Setting default configuration properties");
         properties.setProperty("browser", "chrome");
         properties.setProperty("headless", "false");
+        properties.setProperty("disable.animations", "true");
         properties.setProperty("base.url", "https://www.reddit.com");
         properties.setProperty("timeout", "10");
         properties.setProperty("page.load.timeout", "30");
         properties.setProperty("implicit.wait", "10");
+        properties.setProperty("scenario.budget", "180");
+        properties.setProperty("step.budget", "60");
+        properties.setProperty("http.client", "jdk-http-client");
+        properties.setProperty("http.connect.timeout", "10");
+        properties.setProperty("http.read.timeout", "180");
+        properties.setProperty("http.keepalive.timeout", "300");
+        properties.setProperty("http.pool.size", "0");
+        properties.setProperty("locator.validation", "true");
+        properties.setProperty("locator.learning", "true");
+        properties.setProperty("locator.xpath.rewrite", "true");
+        properties.setProperty("locator.stats.file", "locator-stats.json");
+        properties.setProperty("selector.profile.fixture", "target/fixtures/reddit_home.html");
+        properties.setProperty("background.checkpoint", "true");
+        properties.setProperty("tab.pool.size", "4");
+        properties.setProperty("async.pool.size", "4");
+        properties.setProperty("user.pool.timeout", "60");
+        properties.setProperty("user.pool.stats.file", "target/user-pool-stats.json");
+        properties.setProperty("session.cache.dir", "target/session-cache");
+        properties.setProperty("session.cache.ttl.minutes", "60");
+        properties.setProperty("rate.limit.enabled", "true");
+        properties.setProperty("rate.limit.per.second", "2");
+        properties.setProperty("rate.limit.min.per.second", "0.2");
+        properties.setProperty("rate.limit.burst", "4");
+        properties.setProperty("rate.limit.slow.ms", "5000");
+        properties.setProperty("circuit.breaker.enabled", "true");
+        properties.setProperty("circuit.breaker.threshold", "5");
+        properties.setProperty("circuit.breaker.probe.seconds", "60");
+        properties.setProperty("circuit.breaker.action", "skip");
+        properties.setProperty("ui.fingerprint.preflight", "true");
+        properties.setProperty("ui.fingerprint.file", "src/test/resources/fingerprints/ui-fingerprint.json");
+        properties.setProperty("ui.fingerprint.on.change", "abort");
+        properties.setProperty("search.runner.sessions", "3");
+        properties.setProperty("search.runner.report.file", "target/search-runner-report.txt");
+        properties.setProperty("feed.output.file", "target/feed.jsonl");
+        properties.setProperty("feed.max.posts", "500");
+        properties.setProperty("feed.budget", "120");
+        properties.setProperty("feed.batch.wait.ms", "3000");
+        properties.setProperty("feed.max.empty.batches", "3");
+        properties.setProperty("dom.dump.dir", "target/dom-dumps");
+        properties.setProperty("dom.dump.max.depth", "64");
+        properties.setProperty("dom.dump.max.nodes", "20000");
+        properties.setProperty("dom.dump.max.attributes", "16");
+        properties.setProperty("network.idle.quiet.ms", "500");
+        properties.setProperty("network.idle.ignore.urls", "/svc/shreddit/events,/realtime,/poll");
         properties.setProperty("username", "testuser");
         properties.setProperty("password", "testpass");
         properties.setProperty("email", "test@example.com");
@@ -86,6 +131,13 @@ public class ConfigReader {
         return "true".equalsIgnoreCase(getProperty("headless", "false"));
     }
     
+    /**
+     * Check if CSS animations and transitions should be disabled in the browser
+     */
+    public static boolean isAnimationsDisabled() {
+        return "true".equalsIgnoreCase(getProperty("disable.animations", "true"));
+    }
+    
     /**
      * Get base URL
      */
@@ -114,6 +166,314 @@ public class ConfigReader {
         return Integer.parseInt(getProperty("implicit.wait", "10"));
     }
     
+    /**
+     * Get total time budget of a scenario in seconds
+     */
+    public static int getScenarioBudget() {
+        return Integer.parseInt(getProperty("scenario.budget", "180"));
+    }
+    
+    /**
+     * Get time budget of a single step in seconds, within the scenario budget
+     */
+    public static int getStepBudget() {
+        return Integer.parseInt(getProperty("step.budget", "60"));
+    }
+    
+    /**
+     * Get WebDriver HTTP client factory name (e.g. jdk-http-client)
+     */
+    public static String getHttpClient() {
+        return getProperty("http.client", "jdk-http-client");
+    }
+    
+    /**
+     * Get WebDriver HTTP connect timeout
+     */
+    public static int getHttpConnectTimeout() {
+        return Integer.parseInt(getProperty("http.connect.timeout", "10"));
+    }
+    
+    /**
+     * Get WebDriver HTTP read timeout
+     */
+    public static int getHttpReadTimeout() {
+        return Integer.parseInt(getProperty("http.read.timeout", "180"));
+    }
+    
+    /**
+     * Get idle keep-alive timeout for pooled WebDriver connections
+     */
+    public static int getHttpKeepAliveTimeout() {
+        return Integer.parseInt(getProperty("http.keepalive.timeout", "300"));
+    }
+    
+    /**
+     * Get maximum number of pooled WebDriver connections (0 means unbounded)
+     */
+    public static int getHttpPoolSize() {
+        return Integer.parseInt(getProperty("http.pool.size", "0"));
+    }
+    
+    /**
+     * Check if registered locators should be validated at suite start
+     */
+    public static boolean isLocatorValidationEnabled() {
+        return "true".equalsIgnoreCase(getProperty("locator.validation", "true"));
+    }
+    
+    /**
+     * Check if selector unions should try the branch that matched in earlier runs first
+     */
+    public static boolean isLocatorLearningEnabled() {
+        return "true".equalsIgnoreCase(getProperty("locator.learning", "true"));
+    }
+    
+    /**
+     * Check if XPath locators with an exact CSS equivalent should be rewritten to CSS
+     */
+    public static boolean isXPathRewriteEnabled() {
+        return "true".equalsIgnoreCase(getProperty("locator.xpath.rewrite", "true"));
+    }
+    
+    /**
+     * Get saved page used by the selector profiler
+     */
+    public static String getSelectorProfileFixture() {
+        return getProperty("selector.profile.fixture", "target/fixtures/reddit_home.html");
+    }
+    
+    /**
+     * Get file where locator statistics are persisted between runs
+     */
+    public static String getLocatorStatsFile() {
+        return getProperty("locator.stats.file", "locator-stats.json");
+    }
+    
+    /**
+     * Check if Background steps restore a checkpoint of the session instead of running again
+     */
+    public static boolean isBackgroundCheckpointEnabled() {
+        return "true".equalsIgnoreCase(getProperty("background.checkpoint", "true"));
+    }
+    
+    /**
+     * Get number of tabs independent checks fan out to within one session
+     */
+    public static int getTabPoolSize() {
+        return Integer.parseInt(getProperty("tab.pool.size", "4"));
+    }
+    
+    /**
+     * Get number of threads shared by all sessions driven through async page objects
+     */
+    public static int getAsyncPoolSize() {
+        return Integer.parseInt(getProperty("async.pool.size", "4"));
+    }
+    
+    /**
+     * Get seconds a scenario waits for a free test user
+     */
+    public static int getUserPoolTimeout() {
+        return Integer.parseInt(getProperty("user.pool.timeout", "60"));
+    }
+    
+    /**
+     * Get file where test user pool utilization is exported
+     */
+    public static String getUserPoolStatsFile() {
+        return getProperty("user.pool.stats.file", "target/user-pool-stats.json");
+    }
+    
+    /**
+     * Get directory where authenticated session states are cached
+     */
+    public static String getSessionCacheDir() {
+        return getProperty("session.cache.dir", "target/session-cache");
+    }
+    
+    /**
+     * Get minutes a cached session state is reused before logging in again
+     */
+    public static int getSessionCacheTtlMinutes() {
+        return Integer.parseInt(getProperty("session.cache.ttl.minutes", "60"));
+    }
+    
+    /**
+     * Check if navigations and submits are rate limited per host
+     */
+    public static boolean isRateLimitEnabled() {
+        return "true".equalsIgnoreCase(getProperty("rate.limit.enabled", "true"));
+    }
+    
+    /**
+     * Get maximum requests per second per host
+     */
+    public static double getRateLimitPerSecond() {
+        return Double.parseDouble(getProperty("rate.limit.per.second", "2"));
+    }
+    
+    /**
+     * Get floor the adaptive rate never drops below
+     */
+    public static double getRateLimitMinPerSecond() {
+        return Double.parseDouble(getProperty("rate.limit.min.per.second", "0.2"));
+    }
+    
+    /**
+     * Get number of requests allowed in a burst
+     */
+    public static double getRateLimitBurst() {
+        return Double.parseDouble(getProperty("rate.limit.burst", "4"));
+    }
+    
+    /**
+     * Get navigation duration above which the response counts as slow
+     */
+    public static int getRateLimitSlowMillis() {
+        return Integer.parseInt(getProperty("rate.limit.slow.ms", "5000"));
+    }
+    
+    /**
+     * Check if the suite circuit breaker is enabled
+     */
+    public static boolean isCircuitBreakerEnabled() {
+        return "true".equalsIgnoreCase(getProperty("circuit.breaker.enabled", "true"));
+    }
+    
+    /**
+     * Get number of consecutive same-cause failures that trips the circuit breaker
+     */
+    public static int getCircuitBreakerThreshold() {
+        return Integer.parseInt(getProperty("circuit.breaker.threshold", "5"));
+    }
+    
+    /**
+     * Get seconds an open circuit waits before letting a probe test through
+     */
+    public static int getCircuitBreakerProbeSeconds() {
+        return Integer.parseInt(getProperty("circuit.breaker.probe.seconds", "60"));
+    }
+    
+    /**
+     * Get how tests are rejected while the circuit is open: skip or fail
+     */
+    public static String getCircuitBreakerAction() {
+        return getProperty("circuit.breaker.action", "skip");
+    }
+    
+    /**
+     * Check if the UI structure should be fingerprinted before the suite runs
+     */
+    public static boolean isUiFingerprintPreflightEnabled() {
+        return "true".equalsIgnoreCase(getProperty("ui.fingerprint.preflight", "true"));
+    }
+    
+    /**
+     * Get file holding the last known-good UI fingerprints
+     */
+    public static String getUiFingerprintFile() {
+        return getProperty("ui.fingerprint.file", "src/test/resources/fingerprints/ui-fingerprint.json");
+    }
+    
+    /**
+     * Get action on UI fingerprint change: abort or rebase
+     */
+    public static String getUiFingerprintOnChange() {
+        return getProperty("ui.fingerprint.on.change", "abort");
+    }
+    
+    /**
+     * Get number of browser sessions the search runner spreads terms over
+     */
+    public static int getSearchRunnerSessions() {
+        return Integer.parseInt(getProperty("search.runner.sessions", "3"));
+    }
+    
+    /**
+     * Get file where the search runner throughput and latency report is written
+     */
+    public static String getSearchRunnerReportFile() {
+        return getProperty("search.runner.report.file", "target/search-runner-report.txt");
+    }
+    
+    /**
+     * Get JSONL file feed extraction streams posts to
+     */
+    public static String getFeedOutputFile() {
+        return getProperty("feed.output.file", "target/feed.jsonl");
+    }
+    
+    /**
+     * Get number of posts after which feed extraction stops
+     */
+    public static int getFeedMaxPosts() {
+        return Integer.parseInt(getProperty("feed.max.posts", "500"));
+    }
+    
+    /**
+     * Get seconds after which feed extraction stops
+     */
+    public static int getFeedBudget() {
+        return Integer.parseInt(getProperty("feed.budget", "120"));
+    }
+    
+    /**
+     * Get milliseconds feed extraction waits for more posts after scrolling
+     */
+    public static long getFeedBatchWaitMillis() {
+        return Long.parseLong(getProperty("feed.batch.wait.ms", "3000"));
+    }
+    
+    /**
+     * Get number of scrolls in a row without new posts that ends feed extraction
+     */
+    public static int getFeedMaxEmptyBatches() {
+        return Integer.parseInt(getProperty("feed.max.empty.batches", "3"));
+    }
+    
+    /**
+     * Get directory for composed DOM tree dumps
+     */
+    public static String getDomDumpDir() {
+        return getProperty("dom.dump.dir", "target/dom-dumps");
+    }
+    
+    /**
+     * Get maximum nesting depth of DOM tree dumps
+     */
+    public static int getDomDumpMaxDepth() {
+        return Integer.parseInt(getProperty("dom.dump.max.depth", "64"));
+    }
+    
+    /**
+     * Get maximum number of nodes in a DOM tree dump
+     */
+    public static int getDomDumpMaxNodes() {
+        return Integer.parseInt(getProperty("dom.dump.max.nodes", "20000"));
+    }
+    
+    /**
+     * Get maximum number of attributes dumped per element
+     */
+    public static int getDomDumpMaxAttributes() {
+        return Integer.parseInt(getProperty("dom.dump.max.attributes", "16"));
+    }
+    
+    /**
+     * Get quiet period before the network counts as idle
+     */
+    public static int getNetworkIdleQuietMillis() {
+        return Integer.parseInt(getProperty("network.idle.quiet.ms", "500"));
+    }
+    
+    /**
+     * Get comma-separated URL parts ignored by network idle (long-polling, telemetry)
+     */
+    public static String getNetworkIdleIgnoredUrls() {
+        return getProperty("network.idle.ignore.urls", "/svc/shreddit/events,/realtime,/poll");
+    }
+    
     /**
      * Get test username
      */
@@ -93,6 +93,24 @@ public class TestDataProvider {
         return searchTerms;
     }
     
+    /**
+     * Get multi-word search queries from the testData block
+     */
+    public static List<String> getSearchQueries() {
+        List<String> searchQueries = new ArrayList<>();
+        JsonNode testData = loadTestData().path("testData");
+        JsonNode searchQueriesNode = testData.get("searchQueries");
+        
+        if (searchQueriesNode != null && searchQueriesNode.isArray()) {
+            for (JsonNode queryNode : searchQueriesNode) {
+                searchQueries.add(queryNode.asText());
+            }
+        }
+        
+        logger.info("Loaded {} search queries", searchQueries.size());
+        return searchQueries;
+    }
+    
     /**
      * Get subreddit names
      */
@@ -0,0 +1,197 @@
+package com.reddit.automation.framework.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reddit.automation.framework.utils.TestDataProvider.TestUser;
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lease pool over the valid test users: each concurrent scenario gets a user nobody else is using.
+ * Waiters are served first come, first served, and the least recently used user is leased first.
+ * Utilization per user is logged and written to user.pool.stats.file at shutdown.
+ */
+public class UserPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPool.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static UserPool instance;
+
+    private final Semaphore permits;
+    private final Deque<TestUser> free = new ArrayDeque<>();
+    private final Map<String, UserStats> stats = new LinkedHashMap<>();
+    private final long createdAt = System.nanoTime();
+    private int leased;
+    private int peakLeased;
+    private long waits;
+    private long waitNanos;
+    private long maxWaitNanos;
+    private long timeouts;
+
+    public UserPool(List<TestUser> users) {
+        if (users.isEmpty()) {
+            throw new IllegalStateException("User pool needs at least one user");
+        }
+        this.permits = new Semaphore(users.size(), true);
+        for (TestUser user : users) {
+            // Leases are tracked by username, so a duplicate would hand out one account twice at once
+            if (stats.put(user.getUsername(), new UserStats()) != null) {
+                throw new IllegalStateException("Duplicate test user in user pool: " + user.getUsername());
+            }
+            free.addLast(user);
+        }
+    }
+
+    /**
+     * Get pool over TestDataProvider's valid users, created on first use
+     */
+    public static synchronized UserPool getInstance() {
+        if (instance == null) {
+            instance = new UserPool(TestDataProvider.getValidTestUsers());
+            UserPool pool = instance;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                logger.info("User pool utilization:\n{}", pool.report());
+                pool.saveStats(new File(ConfigReader.getUserPoolStatsFile()));
+            }));
+        }
+        return instance;
+    }
+
+    /**
+     * Lease a user exclusively, waiting up to timeout for one to be returned.
+     * Throws TimeoutException if none becomes free in time.
+     */
+    public Lease acquire(Duration timeout) {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                synchronized (this) {
+                    timeouts++;
+                }
+                throw new TimeoutException("No test user free within " + timeout.toMillis() + "ms, "
+                        + stats.size() + " users all leased");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a test user", e);
+        }
+        long waited = System.nanoTime() - start;
+        synchronized (this) {
+            TestUser user = free.pollFirst();
+            leased++;
+            peakLeased = Math.max(peakLeased, leased);
+            if (waited > 1_000_000) {
+                waits++;
+                waitNanos += waited;
+                maxWaitNanos = Math.max(maxWaitNanos, waited);
+            }
+            stats.get(user.getUsername()).leases++;
+            logger.info("Leased test user {} ({} of {} in use)", user.getUsername(), leased, stats.size());
+            return new Lease(user);
+        }
+    }
+
+    private synchronized void release(Lease lease) {
+        UserStats userStats = stats.get(lease.user.getUsername());
+        long held = System.nanoTime() - lease.leasedAt;
+        userStats.heldNanos += held;
+        userStats.maxHeldNanos = Math.max(userStats.maxHeldNanos, held);
+        leased--;
+        free.addLast(lease.user);
+        permits.release();
+        logger.info("Returned test user {} after {}ms", lease.user.getUsername(), held / 1_000_000);
+    }
+
+    /**
+     * Report per-user utilization and waiting, to size the user pool for a target parallelism
+     */
+    public synchronized String report() {
+        long elapsed = Math.max(1, System.nanoTime() - createdAt);
+        StringBuilder report = new StringBuilder();
+        stats.forEach((username, userStats) -> report.append(String.format(
+                "  %s: leases=%d, busy=%.0f%%, max held=%dms%n", username, userStats.leases,
+                100.0 * userStats.heldNanos / elapsed, userStats.maxHeldNanos / 1_000_000)));
+        report.append(String.format("  users=%d, peak in use=%d, waits=%d, avg wait=%dms, max wait=%dms, timeouts=%d",
+                stats.size(), peakLeased, waits, waits == 0 ? 0 : waitNanos / waits / 1_000_000,
+                maxWaitNanos / 1_000_000, timeouts));
+        return report.toString();
+    }
+
+    /**
+     * Write utilization statistics as JSON
+     */
+    public synchronized void saveStats(File file) {
+        long elapsed = Math.max(1, System.nanoTime() - createdAt);
+        Map<String, Object> export = new LinkedHashMap<>();
+        export.put("users", stats.size());
+        export.put("peakInUse", peakLeased);
+        export.put("waits", waits);
+        export.put("totalWaitMillis", waitNanos / 1_000_000);
+        export.put("maxWaitMillis", maxWaitNanos / 1_000_000);
+        export.put("timeouts", timeouts);
+        Map<String, Object> perUser = new LinkedHashMap<>();
+        stats.forEach((username, userStats) -> {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("leases", userStats.leases);
+            item.put("utilization", (double) userStats.heldNanos / elapsed);
+            item.put("maxHeldMillis", userStats.maxHeldNanos / 1_000_000);
+            perUser.put(username, item);
+        });
+        export.put("perUser", perUser);
+        try {
+            if (file.getAbsoluteFile().getParentFile() != null) {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+            }
+            objectMapper.writeValue(file, export);
+            logger.info("User pool statistics saved to: {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to save user pool statistics: {}", file, e);
+        }
+    }
+
+    /**
+     * Exclusive use of one test user until closed
+     */
+    public class Lease implements AutoCloseable {
+        private final TestUser user;
+        private final long leasedAt = System.nanoTime();
+        private boolean released;
+
+        private Lease(TestUser user) {
+            this.user = user;
+        }
+
+        public TestUser getUser() {
+            return user;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            release(this);
+        }
+    }
+
+    private static class UserStats {
+        private long leases;
+        private long heldNanos;
+        private long maxHeldNanos;
+    }
+}
@@ -0,0 +1,259 @@
+package com.reddit.automation.framework.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Translates the CSS-expressible subset of XPath into an equivalent CSS selector list.
+ *
+ * Supported: descendant (//) and child (/) steps with element names or *, predicates built from
+ * and/or/parentheses over @attr, @attr='value', contains(@attr, 'value') and
+ * starts-with(@attr, 'value'), and | unions. Anything else (text(), positions, axes,
+ * absolute paths) is not translatable and yields null.
+ */
+public final class XPathToCss {
+
+    private static final int MAX_ALTERNATIVES = 16;
+
+    private final String xpath;
+    private int pos;
+
+    private XPathToCss(String xpath) {
+        this.xpath = xpath;
+    }
+
+    /**
+     * Translate an XPath expression, returning null if it has no CSS equivalent
+     */
+    public static String translate(String xpath) {
+        try {
+            return String.join(", ", new XPathToCss(xpath).parseUnion());
+        } catch (Untranslatable e) {
+            return null;
+        }
+    }
+
+    private List<String> parseUnion() {
+        List<String> selectors = new ArrayList<>(parsePath());
+        skipWhitespace();
+        while (peek('|')) {
+            pos++;
+            selectors.addAll(parsePath());
+            skipWhitespace();
+        }
+        if (pos != xpath.length()) {
+            throw new Untranslatable();
+        }
+        return limit(selectors);
+    }
+
+    private List<String> parsePath() {
+        skipWhitespace();
+        if (!xpath.startsWith("//", pos)) {
+            throw new Untranslatable();
+        }
+        List<String> selectors = Collections.singletonList("");
+        boolean first = true;
+        while (xpath.startsWith("/", pos)) {
+            String combinator;
+            if (xpath.startsWith("//", pos)) {
+                combinator = " ";
+                pos += 2;
+            } else {
+                combinator = " > ";
+                pos++;
+            }
+            selectors = cross(selectors, parseStep(), first ? "" : combinator);
+            first = false;
+        }
+        return selectors;
+    }
+
+    private List<String> parseStep() {
+        String name;
+        if (peek('*')) {
+            pos++;
+            name = "*";
+        } else {
+            name = readName();
+            if (peek('(') || xpath.startsWith("::", pos)) {
+                throw new Untranslatable();
+            }
+        }
+        List<String> selectors = Collections.singletonList(name);
+        while (peek('[')) {
+            pos++;
+            selectors = cross(selectors, parseOr(), "");
+            expect(']');
+        }
+        return selectors;
+    }
+
+    private List<String> parseOr() {
+        List<String> selectors = new ArrayList<>(parseAnd());
+        while (keyword("or")) {
+            selectors.addAll(parseAnd());
+        }
+        return limit(selectors);
+    }
+
+    private List<String> parseAnd() {
+        List<String> selectors = parseCondition();
+        while (keyword("and")) {
+            selectors = cross(selectors, parseCondition(), "");
+        }
+        return selectors;
+    }
+
+    private List<String> parseCondition() {
+        skipWhitespace();
+        if (peek('(')) {
+            pos++;
+            List<String> selectors = parseOr();
+            expect(')');
+            return selectors;
+        }
+        if (peek('@')) {
+            pos++;
+            String attribute = readName();
+            skipWhitespace();
+            if (peek('=')) {
+                pos++;
+                return Collections.singletonList(attributeSelector(attribute, "=", readLiteral()));
+            }
+            return Collections.singletonList("[" + attribute + "]");
+        }
+        String function = readName();
+        String operator;
+        if ("contains".equals(function)) {
+            operator = "*=";
+        } else if ("starts-with".equals(function)) {
+            operator = "^=";
+        } else {
+            throw new Untranslatable();
+        }
+        expect('(');
+        expect('@');
+        String attribute = readName();
+        expect(',');
+        String value = readLiteral();
+        expect(')');
+        // An empty substring matches any element carrying the attribute
+        return Collections.singletonList(value.isEmpty() ? "[" + attribute + "]" : attributeSelector(attribute, operator, value));
+    }
+
+    private static String attributeSelector(String attribute, String operator, String value) {
+        return "[" + attribute + operator + cssString(value) + "]";
+    }
+
+    /**
+     * Quote a value as a CSS string. XPath literals have no escapes, but CSS strings do:
+     * backslashes and the quote character are escaped and line breaks become code point escapes.
+     */
+    private static String cssString(String value) {
+        char quote = value.contains("'") && !value.contains("\"") ? '"' : '\'';
+        StringBuilder css = new StringBuilder().append(quote);
+        for (char c : value.toCharArray()) {
+            if (c == '\\' || c == quote) {
+                css.append('\\').append(c);
+            } else if (c == '\n' || c == '\r' || c == '\f') {
+                css.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else {
+                css.append(c);
+            }
+        }
+        return css.append(quote).toString();
+    }
+
+    private static List<String> cross(List<String> left, List<String> right, String separator) {
+        List<String> result = new ArrayList<>();
+        for (String l : left) {
+            for (String r : right) {
+                result.add(l + separator + r);
+            }
+        }
+        return limit(result);
+    }
+
+    private static List<String> limit(List<String> selectors) {
+        if (selectors.size() > MAX_ALTERNATIVES) {
+            throw new Untranslatable();
+        }
+        return selectors;
+    }
+
+    private String readName() {
+        skipWhitespace();
+        int start = pos;
+        while (pos < xpath.length()) {
+            char c = xpath.charAt(pos);
+            if (Character.isLetterOrDigit(c) || c == '-' || c == '_' || (c == '.' && pos > start)) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (pos == start || !Character.isLetter(xpath.charAt(start)) && xpath.charAt(start) != '_') {
+            throw new Untranslatable();
+        }
+        String name = xpath.substring(start, pos);
+        skipWhitespace();
+        return name;
+    }
+
+    private String readLiteral() {
+        skipWhitespace();
+        if (!peek('\'') && !peek('"')) {
+            throw new Untranslatable();
+        }
+        char quote = xpath.charAt(pos);
+        int end = xpath.indexOf(quote, pos + 1);
+        if (end < 0) {
+            throw new Untranslatable();
+        }
+        String literal = xpath.substring(pos + 1, end);
+        pos = end + 1;
+        return literal;
+    }
+
+    private boolean keyword(String word) {
+        skipWhitespace();
+        int end = pos + word.length();
+        if (xpath.startsWith(word, pos) && end < xpath.length()) {
+            char next = xpath.charAt(end);
+            if (Character.isWhitespace(next) || next == '(' || next == '@') {
+                pos = end;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        skipWhitespace();
+        if (!peek(c)) {
+            throw new Untranslatable();
+        }
+        pos++;
+        skipWhitespace();
+    }
+
+    private boolean peek(char c) {
+        return pos < xpath.length() && xpath.charAt(pos) == c;
+    }
+
+    private void skipWhitespace() {
+        while (pos < xpath.length() && Character.isWhitespace(xpath.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static final class Untranslatable extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private Untranslatable() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Serializes the composed tree (document plus every open shadow root) to compact
+ * JSON in a single pass. Run through executeScript with an options object:
+ * { maxDepth, maxNodes, maxAttributes, maxValueLength, maxText }.
+ *
+ * Element format: { "t": tag, "a": { attr: value }, "s": [shadow root children],
+ * "c": [children] }; keys are omitted when empty. Text nodes, only included when
+ * maxText > 0, are { "#": text } entries among the children.
+ * Returns [nodeCount, truncated, json].
+ */
+var options = arguments[0];
+var out = [];
+var nodes = 0;
+var truncated = false;
+
+function clip(value, max) {
+    return value.length > max ? value.substring(0, max) + '…' : value;
+}
+
+function writeChildren(key, children, depth) {
+    var first = true;
+    for (var i = 0; i < children.length; i++) {
+        var child = children[i];
+        var isText = child.nodeType === 3;
+        if (child.nodeType !== 1 && !(isText && options.maxText > 0 && child.nodeValue.trim())) {
+            continue;
+        }
+        if (nodes >= options.maxNodes) {
+            truncated = true;
+            break;
+        }
+        out.push(first ? ',"' + key + '":[' : ',');
+        first = false;
+        if (isText) {
+            nodes++;
+            out.push('{"#":' + JSON.stringify(clip(child.nodeValue.trim(), options.maxText)) + '}');
+        } else {
+            writeElement(child, depth + 1);
+        }
+    }
+    if (!first) {
+        out.push(']');
+    }
+}
+
+function writeElement(element, depth) {
+    nodes++;
+    out.push('{"t":' + JSON.stringify(element.localName));
+
+    var attributes = element.attributes;
+    if (attributes.length > 0 && options.maxAttributes > 0) {
+        out.push(',"a":{');
+        var count = Math.min(attributes.length, options.maxAttributes);
+        for (var i = 0; i < count; i++) {
+            out.push((i > 0 ? ',' : '') + JSON.stringify(attributes[i].name) + ':' +
+                JSON.stringify(clip(attributes[i].value, options.maxValueLength)));
+        }
+        if (attributes.length > count) {
+            out.push(',"…":' + (attributes.length - count));
+        }
+        out.push('}');
+    }
+
+    if (depth >= options.maxDepth) {
+        if (element.childNodes.length > 0 || element.shadowRoot) {
+            truncated = true;
+            out.push(',"more":true');
+        }
+    } else {
+        if (element.shadowRoot) {
+            writeChildren('s', element.shadowRoot.childNodes, depth);
+        }
+        writeChildren('c', element.childNodes, depth);
+    }
+    out.push('}');
+}
+
+writeElement(document.documentElement, 0);
+return [nodes, truncated, out.join('')];
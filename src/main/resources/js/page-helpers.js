@@ -0,0 +1,302 @@
+/*
+ * Page helper runtime shared by all page objects.
+ * Installed once per document so WebDriver commands only send short calls
+ * like "resolve" or "setValue" instead of full querySelector chains.
+ *
+ * A path is an array of CSS selectors: every entry but the last is a shadow
+ * host whose shadowRoot becomes the search root for the next entry.
+ */
+(function () {
+    if (window.__redditHelpers) {
+        return;
+    }
+
+    function resolve(path) {
+        var root = document;
+        for (var i = 0; i < path.length; i++) {
+            if (!root) {
+                return null;
+            }
+            var element = root.querySelector(path[i]);
+            if (i === path.length - 1 || !element) {
+                return element;
+            }
+            root = element.shadowRoot;
+        }
+        return null;
+    }
+
+    // Sets the value through the native setter (so framework value tracking
+    // sees the change) and fires input and change events.
+    function setValue(element, value) {
+        var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');
+        if (descriptor && descriptor.set) {
+            descriptor.set.call(element, value);
+        } else {
+            element.value = value;
+        }
+        element.dispatchEvent(new Event('input', {bubbles: true, composed: true}));
+        element.dispatchEvent(new Event('change', {bubbles: true, composed: true}));
+    }
+
+    function isVisible(element) {
+        if (!element || !element.isConnected) {
+            return false;
+        }
+        var style = getComputedStyle(element);
+        if (style.visibility === 'hidden' || style.display === 'none') {
+            return false;
+        }
+        var rect = element.getBoundingClientRect();
+        return rect.width > 0 && rect.height > 0;
+    }
+
+    function findAlternative(alternative, visibleOnly) {
+        var element;
+        try {
+            element = alternative.xpath
+                ? document.evaluate(alternative.xpath, document, null,
+                    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+                : resolve(alternative.path);
+        } catch (e) {
+            return null;
+        }
+        return element && (!visibleOnly || isVisible(element)) ? element : null;
+    }
+
+    function findAll(alternative) {
+        try {
+            if (alternative.xpath) {
+                var result = document.evaluate(alternative.xpath, document, null,
+                    XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                var nodes = [];
+                for (var i = 0; i < result.snapshotLength; i++) {
+                    nodes.push(result.snapshotItem(i));
+                }
+                return nodes;
+            }
+            var path = alternative.path;
+            var host = path.length > 1 ? resolve(path.slice(0, -1)) : null;
+            var root = path.length > 1 ? host && host.shadowRoot : document;
+            return root ? Array.prototype.slice.call(root.querySelectorAll(path[path.length - 1])) : [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function fieldOf(element, field) {
+        if (field.indexOf('|') >= 0) {
+            // Fallbacks, e.g. 'score|data-score': first field that has a value
+            var options = field.split('|');
+            for (var i = 0; i < options.length; i++) {
+                var value = fieldOf(element, options[i]);
+                if (value != null && value !== '') {
+                    return value;
+                }
+            }
+            return null;
+        }
+        if (field === 'text') {
+            return (element.textContent || '').replace(/\s+/g, ' ').trim();
+        }
+        if (field === 'href' || field === 'value') {
+            var property = element[field];
+            return property == null ? null : String(property);
+        }
+        return element.getAttribute ? element.getAttribute(field) : null;
+    }
+
+    window.__redditHelpers = {
+        resolve: resolve,
+
+        // Number of matches of an alternative, without marshalling element references.
+        // Polls until there is a match or timeoutMs has passed, so a list that is
+        // still loading is not counted as empty.
+        countAll: function (alternative, timeoutMs) {
+            return new Promise(function (done) {
+                var deadline = Date.now() + timeoutMs;
+                (function poll() {
+                    var count = findAll(alternative).length;
+                    if (count > 0 || Date.now() >= deadline) {
+                        done(count);
+                    } else {
+                        setTimeout(poll, 50);
+                    }
+                })();
+            });
+        },
+
+        // One row of strings per match (at most limit rows): 'text' is the
+        // whitespace-collapsed text, 'href' and 'value' the resolved properties,
+        // anything else an attribute
+        project: function (alternative, fields, limit) {
+            return findAll(alternative).slice(0, limit).map(function (element) {
+                return fields.map(function (field) { return fieldOf(element, field); });
+            });
+        },
+
+        // Projects matches not returned before (marked with the marker attribute).
+        // If there are none, scrolls to the bottom and waits up to waitMs for the
+        // feed to load more; resolves with an empty array if it does not.
+        nextBatch: function (alternative, fields, marker, waitMs) {
+            return new Promise(function (done) {
+                var deadline = Date.now() + waitMs;
+                var scrolled = false;
+                (function poll() {
+                    var fresh = findAll(alternative).filter(function (element) {
+                        return element.hasAttribute && !element.hasAttribute(marker);
+                    });
+                    if (fresh.length || Date.now() >= deadline) {
+                        done(fresh.map(function (element) {
+                            element.setAttribute(marker, '');
+                            return fields.map(function (field) { return fieldOf(element, field); });
+                        }));
+                        return;
+                    }
+                    if (!scrolled) {
+                        var scroller = document.scrollingElement || document.documentElement;
+                        window.scrollTo(0, scroller.scrollHeight);
+                        scrolled = true;
+                    }
+                    setTimeout(poll, 100);
+                })();
+            });
+        },
+
+        setValue: setValue,
+
+        queryBranch: function (selector, visibleOnly) {
+            var element = document.querySelector(selector);
+            return element && (!visibleOnly || isVisible(element)) ? element : null;
+        },
+
+        matchingBranch: function (element, branches) {
+            for (var i = 0; i < branches.length; i++) {
+                try {
+                    if (element.matches(branches[i])) {
+                        return i;
+                    }
+                } catch (e) {
+                    // invalid branch, keep looking
+                }
+            }
+            return -1;
+        },
+
+        // Resolves with 'visible' as soon as the element is visible, otherwise with
+        // 'hidden' or 'absent' once the timeout has passed. Never rejects.
+        probe: function (alternative, timeoutMs) {
+            return new Promise(function (done) {
+                var deadline = Date.now() + timeoutMs;
+                (function poll() {
+                    var element = findAlternative(alternative, false);
+                    var state = !element ? 'absent' : isVisible(element) ? 'visible' : 'hidden';
+                    if (state === 'visible' || Date.now() >= deadline) {
+                        done(state);
+                    } else {
+                        setTimeout(poll, 50);
+                    }
+                })();
+            });
+        },
+
+        // Polls all alternatives together; earlier alternatives win ties.
+        // Resolves with [index, element] or null on timeout.
+        firstOf: function (alternatives, timeoutMs, visibleOnly) {
+            return new Promise(function (done) {
+                var deadline = Date.now() + timeoutMs;
+                (function poll() {
+                    for (var i = 0; i < alternatives.length; i++) {
+                        var element = findAlternative(alternatives[i], visibleOnly);
+                        if (element) {
+                            done([i, element]);
+                            return;
+                        }
+                    }
+                    if (Date.now() >= deadline) {
+                        done(null);
+                    } else {
+                        setTimeout(poll, 50);
+                    }
+                })();
+            });
+        },
+
+        // Structural summary of the composed tree: which of the key tags occur
+        // (open shadow roots included), sorted, and whether each key path resolves.
+        structure: function (paths, keyTags) {
+            var wanted = {};
+            keyTags.forEach(function (tag) { wanted[tag] = true; });
+            var tags = {};
+            (function walk(root) {
+                var elements = root.querySelectorAll('*');
+                for (var i = 0; i < elements.length; i++) {
+                    if (wanted[elements[i].localName]) {
+                        tags[elements[i].localName] = true;
+                    }
+                    if (elements[i].shadowRoot) {
+                        walk(elements[i].shadowRoot);
+                    }
+                }
+            })(document);
+            return {
+                tags: Object.keys(tags).sort(),
+                paths: paths.map(function (path) { return resolve(path) !== null; })
+            };
+        },
+
+        // Waits until every field has a visible alternative (last-resort ones only
+        // once the wait is over), then sets all values with setValue.
+        // Nothing is set if a field is missing.
+        // Resolves with {missing: index or -1, winners: [alternative index per field]}.
+        fillForm: function (fields, timeoutMs) {
+            return new Promise(function (done) {
+                var deadline = Date.now() + timeoutMs;
+                (function poll() {
+                    var elements = [];
+                    var winners = [];
+                    for (var i = 0; i < fields.length; i++) {
+                        var element = null;
+                        for (var j = 0; j < fields[i].alternatives.length && !element; j++) {
+                            element = findAlternative(fields[i].alternatives[j], true);
+                            winners[i] = j;
+                        }
+                        if (!element && Date.now() >= deadline) {
+                            // Catch-alls only once the specific alternatives missed for the whole wait
+                            var lastResort = fields[i].lastResort || [];
+                            for (var k = 0; k < lastResort.length && !element; k++) {
+                                element = findAlternative(lastResort[k], true);
+                                winners[i] = fields[i].alternatives.length + k;
+                            }
+                        }
+                        if (!element) {
+                            if (Date.now() >= deadline) {
+                                done({missing: i, winners: []});
+                            } else {
+                                setTimeout(poll, 50);
+                            }
+                            return;
+                        }
+                        elements.push(element);
+                    }
+                    elements.forEach(function (element, k) {
+                        element.focus();
+                        setValue(element, fields[k].value);
+                        element.blur();
+                    });
+                    done({missing: -1, winners: winners});
+                })();
+            });
+        },
+
+        // State and match count of every alternative in one pass, for read-only
+        // scenarios that assert against a shared snapshot of the page.
+        snapshot: function (alternatives) {
+            return alternatives.map(function (alternative) {
+                var element = findAlternative(alternative, false);
+                var state = !element ? 'absent' : isVisible(element) ? 'visible' : 'hidden';
+                return [state, findAll(alternative).length];
+            });
+        }
+    };
+})();
@@ -0,0 +1,51 @@
+/*
+ * Cuts CSS animations, transitions and smooth scrolling so elements are
+ * actionable as soon as they are rendered. The stylesheet is adopted by the
+ * document and by every shadow root, including ones attached later.
+ */
+(function () {
+    if (window.__redditReducedMotion) {
+        return;
+    }
+    window.__redditReducedMotion = true;
+
+    // Near zero rather than 0s, so transitionend and animationend still fire for code waiting on them
+    var css = '*, *::before, *::after {' +
+        ' animation-duration: 0.01ms !important; animation-delay: 0s !important;' +
+        ' animation-iteration-count: 1 !important;' +
+        ' transition-duration: 0.01ms !important; transition-delay: 0s !important;' +
+        ' scroll-behavior: auto !important; }';
+    var sheet = new CSSStyleSheet();
+    sheet.replaceSync(css);
+
+    function adopt(root) {
+        if (root && root.adoptedStyleSheets && root.adoptedStyleSheets.indexOf(sheet) < 0) {
+            root.adoptedStyleSheets = root.adoptedStyleSheets.concat([sheet]);
+        }
+    }
+
+    function adoptExisting(root) {
+        var elements = root.querySelectorAll('*');
+        for (var i = 0; i < elements.length; i++) {
+            if (elements[i].shadowRoot) {
+                adopt(elements[i].shadowRoot);
+                adoptExisting(elements[i].shadowRoot);
+            }
+        }
+    }
+
+    var attachShadow = Element.prototype.attachShadow;
+    Element.prototype.attachShadow = function (init) {
+        var root = attachShadow.call(this, init);
+        adopt(root);
+        return root;
+    };
+
+    adopt(document);
+    // Declarative shadow roots are created by the parser, not attachShadow
+    if (document.readyState === 'loading') {
+        document.addEventListener('DOMContentLoaded', function () { adoptExisting(document); });
+    } else {
+        adoptExisting(document);
+    }
+})();
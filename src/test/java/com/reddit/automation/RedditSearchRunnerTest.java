@@ -0,0 +1,49 @@
+package com.reddit.automation;
+
+import com.reddit.automation.framework.runners.RedditSearchRunner;
+import com.reddit.automation.framework.runners.RedditSearchRunner.SearchResult;
+import com.reddit.automation.framework.utils.TestDataProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Searches every test data term and query concurrently across a pool of sessions
+ */
+public class RedditSearchRunnerTest {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RedditSearchRunnerTest.class);
+    
+    private RedditSearchRunner runner;
+    
+    @DataProvider(name = "searchResults")
+    public Iterator<Object[]> searchResults() {
+        List<String> terms = new ArrayList<>(TestDataProvider.getSearchTerms());
+        terms.addAll(TestDataProvider.getSearchQueries());
+        runner = new RedditSearchRunner(terms);
+        return runner;
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (runner != null) {
+            runner.close();
+        }
+    }
+    
+    @Test(dataProvider = "searchResults")
+    public void searchShowsResults(SearchResult result) {
+        logger.info("Search for '{}' showed results {}ms after submission, after {}ms queued", result.getTerm(),
+                result.getLatencyMillis(), result.getQueueMillis());
+        Assert.assertTrue(result.isSuccess(), "Search for '" + result.getTerm() + "' failed: " + result.getError());
+        Assert.assertTrue(result.getResultCount() > 0,
+                "Search for '" + result.getTerm() + "' should show results, but none were visible at: " + result.getUrl());
+    }
+}
@@ -0,0 +1,64 @@
+package com.reddit.automation;
+
+import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.LocatorRegistry;
+import com.reddit.automation.framework.base.SelectorProfiler;
+import com.reddit.automation.framework.pages.RedditHomePage;
+import com.reddit.automation.framework.pages.RedditLoginPage;
+import com.reddit.automation.framework.pages.RedditSignupPage;
+import com.reddit.automation.framework.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Ranks all registered page object locators by query cost against a saved Reddit page
+ */
+public class RedditSelectorProfileTest {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RedditSelectorProfileTest.class);
+    private static final int ITERATIONS = 200;
+    
+    private WebDriver driver;
+    
+    @BeforeMethod
+    public void setUp() {
+        logger.info("Setting up Reddit selector profile test");
+        driver = DriverManager.initializeDriver(ConfigReader.getBrowser());
+    }
+    
+    @AfterMethod
+    public void tearDown() {
+        logger.info("Tearing down Reddit selector profile test");
+        DriverManager.quitDriver();
+    }
+    
+    @Test
+    public void profileRegisteredSelectors() throws Exception {
+        LocatorRegistry.load(RedditHomePage.class, RedditLoginPage.class, RedditSignupPage.class);
+        SelectorProfiler profiler = new SelectorProfiler(driver);
+        
+        Path fixture = Paths.get(ConfigReader.getSelectorProfileFixture());
+        if (!Files.exists(fixture)) {
+            profiler.captureFixture(ConfigReader.getBaseUrl(), fixture);
+        }
+        
+        List<SelectorProfiler.Result> ranked = profiler.profile(fixture, ITERATIONS);
+        String report = SelectorProfiler.report(ranked);
+        logger.info("\n{}", report);
+        
+        Path reportFile = Paths.get("target", "selector-profile.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, report.getBytes(StandardCharsets.UTF_8));
+        logger.info("Selector profile written to: {}", reportFile);
+    }
+}
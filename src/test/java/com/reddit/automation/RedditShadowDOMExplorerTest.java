@@ -1,12 +1,15 @@
 package com.reddit.automation;
 
+import com.reddit.automation.framework.base.DomDumper;
 import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.NetworkIdle;
 import com.reddit.automation.framework.utils.ConfigReader;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -36,6 +39,23 @@ public class RedditShadowDOMExplorerTest {
         }
     }
     
+    @Test
+    public void dumpComposedTrees() throws Exception {
+        logger.info("Dumping composed DOM trees of Reddit home and login pages");
+        DomDumper dumper = new DomDumper(driver).withText(80);
+        
+        driver.get(baseUrl);
+        NetworkIdle.of(driver).waitForIdle();
+        DomDumper.Dump home = dumper.dump("home");
+        
+        driver.get(baseUrl + "/login");
+        NetworkIdle.of(driver).waitForIdle();
+        DomDumper.Dump login = dumper.dump("login");
+        
+        Assert.assertTrue(home.getNodeCount() > 0, "Home page dump is empty");
+        Assert.assertTrue(login.getNodeCount() > 0, "Login page dump is empty");
+    }
+    
     @Test
     public void exploreRedditShadowDOM() {
         logger.info("Starting Reddit Shadow DOM exploration");
@@ -46,7 +66,7 @@ public class RedditShadowDOMExplorerTest {
             logger.info("Navigated to Reddit login page: {}", baseUrl + "/login");
             
             // Wait for page to load
-            Thread.sleep(5000);
+            NetworkIdle.of(driver).waitForIdle();
             
             // Get page title
             String pageTitle = driver.getTitle();
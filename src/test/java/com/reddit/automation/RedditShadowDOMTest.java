@@ -1,6 +1,7 @@
 package com.reddit.automation;
 
 import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.NetworkIdle;
 import com.reddit.automation.framework.pages.RedditLoginPage;
 import com.reddit.automation.framework.utils.ConfigReader;
 import org.openqa.selenium.JavascriptExecutor;
@@ -50,7 +51,7 @@ public class RedditShadowDOMTest {
             logger.info("Navigated to Reddit login page");
             
             // Wait a bit for page to load
-            Thread.sleep(3000);
+            NetworkIdle.of(driver).waitForIdle();
             
             // Try to find Shadow DOM elements using JavaScript
             logger.info("Attempting to find Shadow DOM elements...");
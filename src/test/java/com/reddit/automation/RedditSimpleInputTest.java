@@ -1,6 +1,7 @@
 package com.reddit.automation;
 
 import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.NetworkIdle;
 import com.reddit.automation.framework.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -49,7 +50,7 @@ public class RedditSimpleInputTest {
             logger.info("Navigated to Reddit login page: {}", baseUrl + "/login");
             
             // Wait for page to load
-            Thread.sleep(5000);
+            NetworkIdle.of(driver).waitForIdle();
             
             // Get page title and URL
             String pageTitle = driver.getTitle();
@@ -0,0 +1,119 @@
+package com.reddit.automation;
+
+import com.reddit.automation.framework.pages.RedditHomePageAsync;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives two sessions through async page objects from one thread, without a browser: each session
+ * is a fake driver that records the commands it receives
+ */
+public class SessionExecutorTest {
+
+    @Test
+    public void overviewReadsRunInCallOrderPerSessionAndSideBySideAcrossSessions() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        FakeSession first = new FakeSession("First", 3, 7, bothStarted);
+        FakeSession second = new FakeSession("Second", 5, 11, bothStarted);
+
+        CompletableFuture<Map<String, Object>> firstOverview = new RedditHomePageAsync(first.driver).getOverview();
+        CompletableFuture<Map<String, Object>> secondOverview = new RedditHomePageAsync(second.driver).getOverview();
+
+        assertOverview(firstOverview.get(10, TimeUnit.SECONDS), "First", 3, 7);
+        assertOverview(secondOverview.get(10, TimeUnit.SECONDS), "Second", 5, 11);
+        for (FakeSession session : Arrays.asList(first, second)) {
+            Assert.assertEquals(session.commands, Arrays.asList("title", "url", "count posts", "count links"),
+                    session.name + " commands must run in call order");
+            Assert.assertEquals(session.maxActive.get(), 1, session.name + " commands must never overlap");
+        }
+        Assert.assertTrue(first.sawOtherSession && second.sawOtherSession,
+                "Commands of different sessions must run side by side");
+    }
+
+    @Test
+    public void failedCommandDoesNotBlockLaterCommandsOfTheSession() throws Exception {
+        FakeSession session = new FakeSession("Failing", 2, 4, new CountDownLatch(0));
+        RedditHomePageAsync page = new RedditHomePageAsync(session.driver);
+
+        CompletableFuture<Void> failed = page.run("fail", p -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> title = page.getPageTitle();
+
+        Assert.assertEquals(title.get(10, TimeUnit.SECONDS), "Failing - Reddit");
+        Assert.assertTrue(failed.isCompletedExceptionally());
+    }
+
+    private static void assertOverview(Map<String, Object> overview, String name, int posts, int links) {
+        Assert.assertEquals(overview.get("title"), name + " - Reddit");
+        Assert.assertEquals(overview.get("url"), "https://www.reddit.com/" + name.toLowerCase());
+        Assert.assertEquals(overview.get("posts"), posts);
+        Assert.assertEquals(overview.get("subredditLinks"), links);
+    }
+
+    /**
+     * Fake browser session answering title, URL and page helper counts
+     */
+    private static final class FakeSession {
+        private final String name;
+        private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final WebDriver driver;
+        private volatile boolean sawOtherSession;
+
+        private FakeSession(String name, long posts, long links, CountDownLatch bothStarted) {
+            this.name = name;
+            this.driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "FakeSession(" + name + ")";
+                            default:
+                                break;
+                        }
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        try {
+                            switch (method.getName()) {
+                                case "getTitle":
+                                    commands.add("title");
+                                    // Held until the other session has started too, which only happens if both run at once
+                                    bothStarted.countDown();
+                                    sawOtherSession = bothStarted.await(5, TimeUnit.SECONDS);
+                                    return name + " - Reddit";
+                                case "getCurrentUrl":
+                                    commands.add("url");
+                                    return "https://www.reddit.com/" + name.toLowerCase();
+                                case "executeScript":
+                                    Object[] callArgs = (Object[]) args[1];
+                                    Assert.assertEquals(callArgs[0], "countAll");
+                                    boolean linkCount = String.valueOf(callArgs[1]).contains("/r/");
+                                    commands.add(linkCount ? "count links" : "count posts");
+                                    return linkCount ? links : posts;
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        } finally {
+                            active.decrementAndGet();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.reddit.automation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reddit.automation.framework.utils.TestDataProvider.TestUser;
+import com.reddit.automation.framework.utils.UserPool;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks exclusive leasing, lease order, timeouts and statistics of the test user pool, without a browser
+ */
+public class UserPoolTest {
+
+    @Test
+    public void moreThreadsThanUsersNeverShareAUser() throws Exception {
+        int users = 3;
+        int threads = 8;
+        int leasesPerThread = 20;
+        UserPool pool = new UserPool(users("a", "b", "c"));
+        Set<String> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger maxInUse = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < leasesPerThread; i++) {
+                        try (UserPool.Lease lease = pool.acquire(Duration.ofSeconds(10))) {
+                            String username = lease.getUser().getUsername();
+                            Assert.assertTrue(inUse.add(username), username + " leased twice at once");
+                            maxInUse.accumulateAndGet(inUse.size(), Math::max);
+                            Thread.sleep(1);
+                            inUse.remove(username);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(maxInUse.get() <= users, "At most " + users + " users in use, saw " + maxInUse.get());
+
+        Map<String, Object> stats = saveStats(pool);
+        Assert.assertTrue(((Number) stats.get("peakInUse")).intValue() <= users);
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> perUser = (Map<String, Map<String, Object>>) stats.get("perUser");
+        long totalLeases = perUser.values().stream().mapToLong(item -> ((Number) item.get("leases")).longValue()).sum();
+        Assert.assertEquals(totalLeases, (long) threads * leasesPerThread);
+        Assert.assertEquals(stats.get("timeouts"), 0);
+    }
+
+    @Test
+    public void leastRecentlyReturnedUserIsLeasedFirst() {
+        UserPool pool = new UserPool(users("a", "b", "c"));
+        UserPool.Lease a = pool.acquire(Duration.ZERO);
+        UserPool.Lease b = pool.acquire(Duration.ZERO);
+        UserPool.Lease c = pool.acquire(Duration.ZERO);
+        Assert.assertEquals(Arrays.asList(a.getUser().getUsername(), b.getUser().getUsername(), c.getUser().getUsername()),
+                Arrays.asList("a", "b", "c"));
+
+        b.close();
+        a.close();
+        Assert.assertEquals(pool.acquire(Duration.ZERO).getUser().getUsername(), "b");
+        Assert.assertEquals(pool.acquire(Duration.ZERO).getUser().getUsername(), "a");
+        c.close();
+    }
+
+    @Test
+    public void waitersAreServedFirstComeFirstServed() throws Exception {
+        UserPool pool = new UserPool(users("only"));
+        UserPool.Lease held = pool.acquire(Duration.ZERO);
+        List<String> served = new ArrayList<>();
+        List<Thread> waiters = new ArrayList<>();
+        for (String name : Arrays.asList("first", "second", "third")) {
+            Thread waiter = new Thread(() -> {
+                try (UserPool.Lease lease = pool.acquire(Duration.ofSeconds(10))) {
+                    synchronized (served) {
+                        served.add(name);
+                    }
+                }
+            });
+            waiter.start();
+            waiters.add(waiter);
+            // Let this waiter queue up before the next one arrives
+            Thread.sleep(50);
+        }
+        held.close();
+        for (Thread waiter : waiters) {
+            waiter.join(10_000);
+        }
+        Assert.assertEquals(served, Arrays.asList("first", "second", "third"));
+    }
+
+    @Test
+    public void exhaustedPoolTimesOutAndCountsIt() throws Exception {
+        UserPool pool = new UserPool(users("only"));
+        UserPool.Lease lease = pool.acquire(Duration.ZERO);
+        long start = System.nanoTime();
+        Assert.assertThrows(TimeoutException.class, () -> pool.acquire(Duration.ofMillis(50)));
+        Assert.assertTrue((System.nanoTime() - start) / 1_000_000 >= 40, "acquire should wait out its timeout");
+
+        lease.close();
+        lease.close();
+        try (UserPool.Lease again = pool.acquire(Duration.ZERO)) {
+            Assert.assertEquals(again.getUser().getUsername(), "only", "A double close returns the user only once");
+            Assert.assertThrows(TimeoutException.class, () -> pool.acquire(Duration.ZERO));
+        }
+
+        Map<String, Object> stats = saveStats(pool);
+        Assert.assertEquals(stats.get("users"), 1);
+        Assert.assertEquals(stats.get("timeouts"), 2);
+        Assert.assertTrue(pool.report().contains("timeouts=2"), pool.report());
+    }
+
+    @Test
+    public void duplicateUsernamesAreRejected() {
+        Assert.assertThrows(IllegalStateException.class, () -> new UserPool(users("a", "b", "a")));
+    }
+
+    @Test
+    public void emptyPoolIsRejected() {
+        Assert.assertThrows(IllegalStateException.class, () -> new UserPool(new ArrayList<>()));
+    }
+
+    private static List<TestUser> users(String... usernames) {
+        List<TestUser> users = new ArrayList<>();
+        for (String username : usernames) {
+            TestUser user = new TestUser();
+            user.setUsername(username);
+            user.setValid(true);
+            users.add(user);
+        }
+        return users;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> saveStats(UserPool pool) throws Exception {
+        File file = Files.createTempFile("user-pool-stats", ".json").toFile();
+        try {
+            pool.saveStats(file);
+            return new ObjectMapper().readValue(file, Map.class);
+        } finally {
+            file.delete();
+        }
+    }
+}
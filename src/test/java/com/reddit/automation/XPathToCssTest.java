@@ -0,0 +1,59 @@
+package com.reddit.automation;
+
+import com.reddit.automation.framework.utils.XPathToCss;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the XPath to CSS translation used to rewrite page object locators, without a browser
+ */
+public class XPathToCssTest {
+
+    @DataProvider(name = "translatable")
+    public Object[][] translatable() {
+        return new Object[][] {
+                {"//input[@name='username']", "input[name='username']"},
+                {"//input[@name=\"email\"]", "input[name='email']"},
+                {"//*[@data-testid]", "*[data-testid]"},
+                {"//a[contains(@href, 'login')]", "a[href*='login']"},
+                {"//div[starts-with(@class, 'post')]", "div[class^='post']"},
+                {"//a[contains(@href, '')]", "a[href]"},
+                {"//form//input[@type='text']", "form input[type='text']"},
+                {"//ul/li", "ul > li"},
+                {"//input[@type='checkbox' and @name='terms']", "input[type='checkbox'][name='terms']"},
+                {"//a[contains(@href, 'signup') or contains(@href, 'register')]", "a[href*='signup'], a[href*='register']"},
+                {"//input[(@type='text' or @type='search') and @name]", "input[type='text'][name], input[type='search'][name]"},
+                {"//button | //a[@href]", "button, a[href]"},
+                {"//input[@value=\"it's\"]", "input[value=\"it's\"]"},
+                {"//input[@value='a\\b']", "input[value='a\\\\b']"},
+                {"//input[@value='say \"hi\"']", "input[value='say \"hi\"']"},
+        };
+    }
+
+    @DataProvider(name = "untranslatable")
+    public Object[][] untranslatable() {
+        return new Object[][] {
+                {"//button[contains(text(), 'Sign Up')]"},
+                {"//a[contains(., 'Log In')]"},
+                {"//li[1]"},
+                {"/html/body"},
+                {"//div/following-sibling::span"},
+                {"//div[@id='x']/.."},
+                {"//input[not(@disabled)]"},
+                {"//a[@href='unterminated]"},
+                {"//a[@href] extra"},
+                {"//*[@a or @b or @c or @d or @e][@f or @g or @h or @i]"},
+        };
+    }
+
+    @Test(dataProvider = "translatable")
+    public void translatesCssExpressibleXPath(String xpath, String css) {
+        Assert.assertEquals(XPathToCss.translate(xpath), css, "Translation of " + xpath);
+    }
+
+    @Test(dataProvider = "untranslatable")
+    public void fallsBackOnUnsupportedXPath(String xpath) {
+        Assert.assertNull(XPathToCss.translate(xpath), "XPath without a CSS equivalent must not be rewritten: " + xpath);
+    }
+}
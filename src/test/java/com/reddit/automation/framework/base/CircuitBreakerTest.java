@@ -0,0 +1,117 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the circuit breaker state machine and failure signatures, without a browser
+ */
+public class CircuitBreakerTest {
+
+    private static final long NEVER = 60_000;
+
+    @Test
+    public void tripsOnlyOnConsecutiveFailuresWithTheSameSignature() {
+        CircuitBreaker breaker = new CircuitBreaker(3, NEVER);
+        breaker.recordFailure("A");
+        breaker.recordFailure("B");
+        breaker.recordFailure("A");
+        breaker.recordFailure("A");
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, "A B A A is only two in a row");
+
+        breaker.recordFailure("A");
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertFalse(breaker.allowTest("rejected"), "An open circuit rejects tests until the probe interval");
+    }
+
+    @Test
+    public void successBreaksTheStreak() {
+        CircuitBreaker breaker = new CircuitBreaker(2, NEVER);
+        breaker.recordFailure("A");
+        breaker.recordSuccess();
+        breaker.recordFailure("A");
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void probeResultClosesOrReopensTheCircuit() {
+        CircuitBreaker breaker = tripped();
+        Assert.assertTrue(breaker.allowTest("probe"));
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertFalse(breaker.allowTest("other"), "Only one probe runs at a time");
+        breaker.recordFailure("A");
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+
+        Assert.assertTrue(breaker.allowTest("probe"));
+        breaker.recordSuccess();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertTrue(breaker.allowTest("next"));
+    }
+
+    @Test
+    public void resultsOfOtherThreadsDoNotDecideTheProbe() throws Exception {
+        CircuitBreaker breaker = tripped();
+        Assert.assertTrue(breaker.allowTest("probe"));
+
+        // A test that started before the trip finishes while the probe runs
+        onOtherThread(breaker::recordSuccess);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        onOtherThread(() -> breaker.recordFailure("A"));
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        onOtherThread(breaker::recordSkipped);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+
+        breaker.recordSuccess();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void skippedProbeFreesTheProbeSlot() {
+        CircuitBreaker breaker = tripped();
+        Assert.assertTrue(breaker.allowTest("probe"));
+        breaker.recordSkipped();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertTrue(breaker.allowTest("next probe"), "The next test probes instead of waiting another interval");
+    }
+
+    @Test
+    public void signatureIgnoresMessageDetailsButKeepsTheCause() {
+        String first = CircuitBreaker.signatureOf(new TimeoutException(
+                "Expected condition failed: waiting for visibility of By.cssSelector: .post (tried for 10 second(s))"),
+                0, "Reddit");
+        String second = CircuitBreaker.signatureOf(new TimeoutException(
+                "Expected condition failed: waiting for visibility of By.cssSelector: .post (tried for 4 second(s))"),
+                0, "Reddit");
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first, "TimeoutException | By.cssSelector: .post | title=Reddit");
+
+        String other = CircuitBreaker.signatureOf(new NoSuchElementException("By.cssSelector: .post"), 0, "Reddit");
+        Assert.assertNotEquals(other, first, "Different exception types are different causes");
+    }
+
+    @Test
+    public void signatureIncludesErrorStatusOfTheDocument() {
+        TimeoutException error = new TimeoutException("waiting for visibility of By.cssSelector: .post");
+        Assert.assertEquals(CircuitBreaker.signatureOf(error, 429, "Too Many Requests"),
+                "TimeoutException | By.cssSelector: .post | HTTP 429 | title=Too Many Requests");
+        Assert.assertEquals(CircuitBreaker.signatureOf(error, 200, "Reddit"),
+                "TimeoutException | By.cssSelector: .post | title=Reddit", "Success statuses are not a cause");
+        Assert.assertEquals(CircuitBreaker.signatureOf(new RuntimeException("HTTP 503"), 503, null),
+                "RuntimeException | HTTP 503", "A status already in the message is not repeated");
+    }
+
+    private static CircuitBreaker tripped() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.recordFailure("A");
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void onOtherThread(Runnable action) throws InterruptedException {
+        Thread thread = new Thread(action);
+        thread.start();
+        thread.join();
+    }
+}
@@ -0,0 +1,96 @@
+package com.reddit.automation.framework.base;
+
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * Checks the token bucket and adaptive rate of RateLimiter, without a browser.
+ * Rates are high so waits stay in the tens of milliseconds.
+ */
+public class RateLimiterTest {
+
+    @Test
+    public void burstIsServedWithoutWaiting() {
+        RateLimiter limiter = new RateLimiter("burst", 10, 1, 3);
+        long elapsed = timeMillis(() -> {
+            for (int i = 0; i < 3; i++) {
+                limiter.acquire();
+            }
+        });
+        Assert.assertTrue(elapsed < 50, "A full bucket serves the burst at once, took " + elapsed + "ms");
+        Assert.assertEquals(limiter.getWaited(), Duration.ZERO);
+    }
+
+    @Test
+    public void emptyBucketReservesTheNextToken() {
+        RateLimiter limiter = new RateLimiter("reserve", 20, 1, 1);
+        limiter.acquire();
+        // Each further token accrues 50ms after the previous one
+        long elapsed = timeMillis(() -> {
+            limiter.acquire();
+            limiter.acquire();
+        });
+        Assert.assertTrue(elapsed >= 90, "Two reservations at 20/s wait about 100ms, took " + elapsed + "ms");
+        Assert.assertTrue(elapsed < 300, "Reservations must not wait much longer than their token, took " + elapsed + "ms");
+    }
+
+    @Test
+    public void waitBeyondTheTimeBudgetThrowsAndRefundsTheToken() {
+        RateLimiter limiter = new RateLimiter("budget", 10, 1, 1);
+        limiter.acquire();
+
+        Deadline deadline = Deadline.start("rate limit test", Duration.ofMillis(20));
+        try {
+            Assert.assertThrows(TimeoutException.class, limiter::acquire);
+        } finally {
+            deadline.close();
+        }
+        Assert.assertEquals(limiter.getWaited(), Duration.ZERO, "A refused wait is not counted as waited");
+
+        // With the token refunded the next caller waits for one token (100ms), not two
+        long elapsed = timeMillis(limiter::acquire);
+        Assert.assertTrue(elapsed >= 60 && elapsed < 170, "Next acquire should wait about 100ms, took " + elapsed + "ms");
+    }
+
+    @Test
+    public void throttlingHalvesTheRateDownToTheMinimum() {
+        RateLimiter limiter = new RateLimiter("throttled", 8, 1, 1);
+        limiter.record(429, Duration.ZERO);
+        Assert.assertEquals(limiter.getRate(), 4.0);
+        limiter.record(429, Duration.ZERO);
+        limiter.record(429, Duration.ZERO);
+        Assert.assertEquals(limiter.getRate(), 1.0);
+        limiter.record(429, Duration.ZERO);
+        Assert.assertEquals(limiter.getRate(), 1.0, "The rate never drops below the minimum");
+    }
+
+    @Test
+    public void slowResponsesLowerTheRateByAQuarter() {
+        RateLimiter limiter = new RateLimiter("slow", 8, 1, 1);
+        limiter.onSlow(Duration.ofSeconds(10));
+        Assert.assertEquals(limiter.getRate(), 6.0);
+    }
+
+    @Test
+    public void healthyResponsesRecoverTheRateUpToTheMaximum() {
+        RateLimiter limiter = new RateLimiter("recovering", 10, 1, 1);
+        limiter.onThrottled();
+        limiter.onThrottled();
+        Assert.assertEquals(limiter.getRate(), 2.5);
+        limiter.record(200, Duration.ZERO);
+        Assert.assertEquals(limiter.getRate(), 3.5, 1e-9, "Each healthy response adds a tenth of the maximum");
+        for (int i = 0; i < 10; i++) {
+            limiter.record(200, Duration.ZERO);
+        }
+        Assert.assertEquals(limiter.getRate(), 10.0, "The rate recovers to the maximum and no further");
+    }
+
+    private static long timeMillis(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -16,7 +16,7 @@ import org.testng.annotations.DataProvider;
                 "json:target/cucumber-reports/home-cucumber.json",
                 "junit:target/cucumber-reports/home-cucumber.xml"
         },
-        tags = "@home",
+        tags = "@home and not @readonly",
         monochrome = true,
         dryRun = false
 )
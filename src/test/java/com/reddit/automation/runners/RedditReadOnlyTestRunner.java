@@ -0,0 +1,31 @@
+package com.reddit.automation.runners;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
+
+/**
+ * TestNG test runner for read-only Reddit home page scenarios.
+ * They run one after another on one session so they share a single page load and DOM snapshot.
+ */
+@CucumberOptions(
+        features = "src/test/resources/features/reddit_home.feature",
+        glue = "com.reddit.automation.stepdefinitions",
+        plugin = {
+                "pretty",
+                "html:target/cucumber-reports/readonly-html",
+                "json:target/cucumber-reports/readonly-cucumber.json",
+                "junit:target/cucumber-reports/readonly-cucumber.xml"
+        },
+        tags = "@readonly",
+        monochrome = true,
+        dryRun = false
+)
+public class RedditReadOnlyTestRunner extends AbstractTestNGCucumberTests {
+    
+    @Override
+    @DataProvider(parallel = false)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
@@ -16,7 +16,7 @@ import org.testng.annotations.DataProvider;
                 "json:target/cucumber-reports/cucumber.json",
                 "junit:target/cucumber-reports/cucumber.xml"
         },
-        tags = "@reddit or @home or @smoke",
+        tags = "(@reddit or @home or @smoke) and (@smoke or not @readonly)",
         monochrome = true,
         dryRun = false
 )
@@ -0,0 +1,52 @@
+package com.reddit.automation.stepdefinitions;
+
+import com.reddit.automation.framework.base.Deadline;
+import com.reddit.automation.framework.utils.ConfigReader;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeStep;
+import io.cucumber.java.Scenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Gives every scenario, and every step within it, a time budget that waits and navigations draw from
+ */
+public class DeadlineHook {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineHook.class);
+    
+    private Deadline scenarioDeadline;
+    private Deadline stepDeadline;
+    
+    @Before(order = 0)
+    public void startScenarioBudget(Scenario scenario) {
+        scenarioDeadline = Deadline.start(scenario.getName(), Duration.ofSeconds(ConfigReader.getScenarioBudget()));
+    }
+    
+    @BeforeStep
+    public void startStepBudget() {
+        stepDeadline = Deadline.start("step", Duration.ofSeconds(ConfigReader.getStepBudget()));
+    }
+    
+    @AfterStep
+    public void endStepBudget() {
+        if (stepDeadline != null) {
+            stepDeadline.close();
+            stepDeadline = null;
+        }
+    }
+    
+    @After(order = 0)
+    public void endScenarioBudget(Scenario scenario) {
+        if (scenarioDeadline != null) {
+            logger.info("Scenario '{}' finished with {}ms of budget left",
+                    scenario.getName(), scenarioDeadline.remaining().toMillis());
+            scenarioDeadline.close();
+            scenarioDeadline = null;
+        }
+    }
+}
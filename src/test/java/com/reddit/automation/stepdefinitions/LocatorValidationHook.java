@@ -0,0 +1,37 @@
+package com.reddit.automation.stepdefinitions;
+
+import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.LocatorRegistry;
+import com.reddit.automation.framework.pages.RedditHomePage;
+import com.reddit.automation.framework.pages.RedditLoginPage;
+import com.reddit.automation.framework.pages.RedditSignupPage;
+import com.reddit.automation.framework.utils.ConfigReader;
+import io.cucumber.java.BeforeAll;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Validates every registered page object locator once before any scenario runs
+ */
+public class LocatorValidationHook {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LocatorValidationHook.class);
+    
+    @BeforeAll
+    public static void validateLocators() {
+        if (!ConfigReader.isLocatorValidationEnabled()) {
+            logger.info("Locator validation disabled");
+            return;
+        }
+        LocatorRegistry.load(RedditHomePage.class, RedditLoginPage.class, RedditSignupPage.class);
+        WebDriver driver = DriverManager.initializeDriver(ConfigReader.getBrowser());
+        try {
+            // Syntax only, so a blank local document is enough and no network is needed
+            driver.get("about:blank");
+            LocatorRegistry.validate(driver);
+        } finally {
+            DriverManager.quitDriver();
+        }
+    }
+}
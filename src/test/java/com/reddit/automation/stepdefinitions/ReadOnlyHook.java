@@ -0,0 +1,23 @@
+package com.reddit.automation.stepdefinitions;
+
+import com.reddit.automation.framework.base.ReadOnlySnapshot;
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+
+/**
+ * Lets consecutive @readonly scenarios share one page load and DOM snapshot,
+ * while each of them still passes or fails on its own
+ */
+public class ReadOnlyHook {
+    
+    @Before(order = 1)
+    public void beginScenario(Scenario scenario) {
+        ReadOnlySnapshot.begin(scenario.getSourceTagNames().contains("@readonly"));
+    }
+    
+    @After(order = 1)
+    public void endScenario() {
+        ReadOnlySnapshot.end();
+    }
+}
@@ -1,8 +1,16 @@
 package com.reddit.automation.stepdefinitions;
 
+import com.reddit.automation.framework.base.BackgroundCheckpoint;
+import com.reddit.automation.framework.base.Deadline;
 import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.FeedExtractor;
+import com.reddit.automation.framework.base.NetworkIdle;
 import com.reddit.automation.framework.pages.RedditHomePage;
+import com.reddit.automation.framework.pages.RedditLoginPage;
 import com.reddit.automation.framework.utils.ConfigReader;
+import com.reddit.automation.framework.utils.TestDataProvider;
+import com.reddit.automation.framework.utils.UserPool;
+import io.cucumber.java.After;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -12,6 +20,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Step definitions for Reddit home page functionality
  */
@@ -22,14 +34,32 @@ public class RedditHomeStepDefinitions {
     private WebDriver driver;
     private RedditHomePage homePage;
     private String baseUrl;
+    private UserPool.Lease userLease;
+    private Map<String, Integer> searchResults;
+    private FeedExtractor.Result feedResult;
+    
+    @After
+    public void returnTestUser() {
+        if (userLease != null) {
+            userLease.close();
+            userLease = null;
+        }
+    }
     
     @Given("I am on the Reddit home page")
     public void i_am_on_the_reddit_home_page() {
         logger.info("Step: I am on the Reddit home page");
         baseUrl = ConfigReader.getBaseUrl();
+        String checkpoint = "home page " + baseUrl;
+        if (BackgroundCheckpoint.restore(checkpoint)) {
+            driver = DriverManager.getDriver();
+            homePage = new RedditHomePage(driver);
+            return;
+        }
         driver = DriverManager.initializeDriver(ConfigReader.getBrowser());
         homePage = new RedditHomePage(driver);
         homePage.navigateToHomePage(baseUrl);
+        BackgroundCheckpoint.save(checkpoint);
     }
     
     @Given("I am logged in to Reddit")
@@ -38,9 +68,9 @@ public class RedditHomeStepDefinitions {
         baseUrl = ConfigReader.getBaseUrl();
         driver = DriverManager.initializeDriver(ConfigReader.getBrowser());
         homePage = new RedditHomePage(driver);
-        homePage.navigateToHomePage(baseUrl);
-        // Note: In a real scenario, you would perform actual login here
-        // For now, we'll assume the user is already logged in
+        // Logs in through the UI once per run, later scenarios restore the cached session
+        userLease = UserPool.getInstance().acquire(Deadline.cap(Duration.ofSeconds(ConfigReader.getUserPoolTimeout())));
+        new RedditLoginPage(driver).loginWithCachedSession(baseUrl, userLease.getUser());
     }
     
     @When("I search for {string}")
@@ -49,6 +79,34 @@ public class RedditHomeStepDefinitions {
         homePage.searchFor(searchTerm);
     }
     
+    @When("I search for every test search term in parallel tabs")
+    public void i_search_for_every_test_search_term_in_parallel_tabs() {
+        logger.info("Step: I search for every test search term in parallel tabs");
+        searchResults = homePage.searchAllInTabs(baseUrl, TestDataProvider.getSearchTerms());
+    }
+    
+    @Then("every search should show its results page")
+    public void every_search_should_show_its_results_page() {
+        logger.info("Step: every search should show its results page");
+        Assert.assertFalse(searchResults.isEmpty(), "Should have searched for at least one term");
+        searchResults.forEach((term, count) -> Assert.assertTrue(count > 0,
+                "Search for '" + term + "' should show results, but none were visible"));
+    }
+    
+    @When("I extract {int} posts from the feed")
+    public void i_extract_posts_from_the_feed(Integer maxPosts) {
+        logger.info("Step: I extract {} posts from the feed", maxPosts);
+        feedResult = homePage.extractFeed(Paths.get(ConfigReader.getFeedOutputFile()), maxPosts,
+                Duration.ofSeconds(ConfigReader.getFeedBudget()));
+    }
+    
+    @Then("the feed file should contain at least {int} unique posts")
+    public void the_feed_file_should_contain_at_least_unique_posts(Integer minPosts) {
+        logger.info("Step: the feed file should contain at least {} unique posts", minPosts);
+        Assert.assertTrue(feedResult.getRecords() >= minPosts,
+                "Feed should have at least " + minPosts + " posts, but extraction gave: " + feedResult);
+    }
+    
     @When("I click on the signup button")
     public void i_click_on_the_signup_button() {
         logger.info("Step: I click on the signup button");
@@ -129,6 +187,9 @@ public class RedditHomeStepDefinitions {
         logger.info("Step: I should see subreddit links");
         int linkCount = homePage.getNumberOfSubredditLinks();
         Assert.assertTrue(linkCount > 0, "Should see subreddit links, but found: " + linkCount);
+        for (String url : homePage.getSubredditLinkUrls()) {
+            Assert.assertTrue(url != null && url.contains("/r/"), "Subreddit link should point to a subreddit, but was: " + url);
+        }
     }
     
     @Then("I should see at least {int} subreddit links")
@@ -158,11 +219,7 @@ public class RedditHomeStepDefinitions {
     @And("I wait for the page to load")
     public void i_wait_for_the_page_to_load() {
         logger.info("Step: I wait for the page to load");
-        try {
-            Thread.sleep(2000); // Wait for page to load
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        NetworkIdle.of(driver).waitForIdle();
     }
     
     @And("I am not logged in")
@@ -1,9 +1,14 @@
 package com.reddit.automation.stepdefinitions;
 
+import com.reddit.automation.framework.base.BackgroundCheckpoint;
+import com.reddit.automation.framework.base.Deadline;
 import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.NetworkIdle;
 import com.reddit.automation.framework.pages.RedditHomePage;
 import com.reddit.automation.framework.pages.RedditLoginPage;
 import com.reddit.automation.framework.utils.ConfigReader;
+import com.reddit.automation.framework.utils.UserPool;
+import io.cucumber.java.After;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -13,6 +18,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import java.time.Duration;
+
 /**
  * Step definitions for Reddit login functionality
  */
@@ -24,14 +31,30 @@ public class RedditLoginStepDefinitions {
     private RedditHomePage homePage;
     private RedditLoginPage loginPage;
     private String baseUrl;
+    private UserPool.Lease userLease;
+    
+    @After
+    public void returnTestUser() {
+        if (userLease != null) {
+            userLease.close();
+            userLease = null;
+        }
+    }
     
     @Given("I am on the Reddit home page")
     public void i_am_on_the_reddit_home_page() {
         logger.info("Step: I am on the Reddit home page");
         baseUrl = ConfigReader.getBaseUrl();
+        String checkpoint = "home page " + baseUrl;
+        if (BackgroundCheckpoint.restore(checkpoint)) {
+            driver = DriverManager.getDriver();
+            homePage = new RedditHomePage(driver);
+            return;
+        }
         driver = DriverManager.initializeDriver(ConfigReader.getBrowser());
         homePage = new RedditHomePage(driver);
         homePage.navigateToHomePage(baseUrl);
+        BackgroundCheckpoint.save(checkpoint);
     }
     
     @Given("I navigate to the Reddit login page")
@@ -76,9 +99,8 @@ public class RedditLoginStepDefinitions {
     @When("I login with valid credentials")
     public void i_login_with_valid_credentials() {
         logger.info("Step: I login with valid credentials");
-        String username = ConfigReader.getUsername();
-        String password = ConfigReader.getPassword();
-        loginPage.login(username, password);
+        userLease = UserPool.getInstance().acquire(Deadline.cap(Duration.ofSeconds(ConfigReader.getUserPoolTimeout())));
+        loginPage.login(userLease.getUser().getUsername(), userLease.getUser().getPassword());
     }
     
     @When("I login with invalid credentials")
@@ -229,10 +251,6 @@ public class RedditLoginStepDefinitions {
     @And("I wait for the page to load")
     public void i_wait_for_the_page_to_load() {
         logger.info("Step: I wait for the page to load");
-        try {
-            Thread.sleep(2000); // Wait for page to load
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        NetworkIdle.of(driver).waitForIdle();
     }
 }
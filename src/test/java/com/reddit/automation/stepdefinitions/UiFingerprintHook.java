@@ -0,0 +1,41 @@
+package com.reddit.automation.stepdefinitions;
+
+import com.reddit.automation.framework.base.DriverManager;
+import com.reddit.automation.framework.base.UiFingerprint;
+import com.reddit.automation.framework.pages.RedditLoginPage;
+import com.reddit.automation.framework.utils.ConfigReader;
+import io.cucumber.java.BeforeAll;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Aborts the run before any scenario if Reddit's pages lost key elements since the last known-good fingerprint
+ */
+public class UiFingerprintHook {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UiFingerprintHook.class);
+    
+    @BeforeAll
+    public static void checkUiFingerprint() {
+        if (!ConfigReader.isUiFingerprintPreflightEnabled()) {
+            logger.info("UI fingerprint preflight disabled");
+            return;
+        }
+        String baseUrl = ConfigReader.getBaseUrl();
+        WebDriver driver = DriverManager.initializeDriver(ConfigReader.getBrowser());
+        try {
+            new UiFingerprint(driver)
+                    .page("home", baseUrl, Arrays.asList("shreddit-app", "shreddit-post"),
+                            Collections.singletonList(Collections.singletonList("shreddit-app")))
+                    .page("login", baseUrl + "/login", RedditLoginPage.SHADOW_HOSTS,
+                            Collections.singletonList(RedditLoginPage.SHADOW_HOSTS))
+                    .preflight();
+        } finally {
+            DriverManager.quitDriver();
+        }
+    }
+}
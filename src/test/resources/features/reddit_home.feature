@@ -7,7 +7,7 @@ Feature: Reddit Home Page Functionality
   Background:
     Given I am on the Reddit home page
 
-  @smoke @home
+  @smoke @home @readonly
   Scenario: Home page elements are displayed
     Then I should see the Reddit home page
     And I should see the search box
@@ -19,27 +19,37 @@ Feature: Reddit Home Page Functionality
     When I search for "technology"
     Then the current URL should contain "search"
 
+  @home
+  Scenario: Search terms in parallel tabs
+    When I search for every test search term in parallel tabs
+    Then every search should show its results page
+
+  @home
+  Scenario: Feed extraction
+    When I extract 50 posts from the feed
+    Then the feed file should contain at least 1 unique posts
+
   @home
   Scenario: Navigation buttons
     When I click on the login button
     Then I should be redirected to the login page
 
-  @home
+  @home @readonly
   Scenario: Home page content
     Then I should see posts on the page
     And I should see subreddit links
 
-  @home
+  @home @readonly
   Scenario: Minimum content validation
     Then I should see at least 1 posts
     And I should see at least 1 subreddit links
 
-  @home
+  @home @readonly
   Scenario: Page title and URL validation
     Then the page title should contain "Reddit"
     And the current URL should contain "reddit.com"
 
-  @home
+  @home @readonly
   Scenario: User not logged in state
     Given I am not logged in
     Then I should not be logged in
@@ -53,7 +63,7 @@ Feature: Reddit Home Page Functionality
     And I sort posts by Top
     Then I should see posts on the page
 
-  @home
+  @home @readonly
   Scenario: Home page load validation
     Given I wait for the page to load
     Then I should see the Reddit home page